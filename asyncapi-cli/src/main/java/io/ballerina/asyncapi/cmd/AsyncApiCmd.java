@@ -20,6 +20,7 @@ package io.ballerina.asyncapi.cmd;
 import io.ballerina.asyncapi.codegenerator.application.Application;
 import io.ballerina.asyncapi.codegenerator.application.CodeGenerator;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.CodegenOptions;
 import io.ballerina.cli.BLauncherCmd;
 import picocli.CommandLine;
 
@@ -52,6 +53,56 @@ public class AsyncApiCmd implements BLauncherCmd {
             "If this is not provided, the generated files will be stored in the the current execution directory")
     private String outputPath;
 
+    @CommandLine.Option(names = {"--client"},
+            description = "Generate a client which sends the events defined in the AsyncAPI specification")
+    private boolean generateClient;
+
+    @CommandLine.Option(names = {"--preserve-refs"},
+            description = "Validate the $ref attributes without dereferencing the AsyncAPI specification")
+    private boolean preserveReferences;
+
+    @CommandLine.Option(names = {"--keep-unused-schemas"},
+            description = "Generate types for all the schemas, including the ones which no channel message uses")
+    private boolean keepUnusedSchemas;
+
+    @CommandLine.Option(names = {"--sorted"},
+            description = "Generate the types and services in the alphabetical order instead of the spec order")
+    private boolean sortedOutput;
+
+    @CommandLine.Option(names = {"--hoist-records"},
+            description = "Generate the objects nested inside the schemas as separate named record types")
+    private boolean hoistNestedRecords;
+
+    @CommandLine.Option(names = {"--closed-records"},
+            description = "Generate closed records unless a schema sets additionalProperties to true")
+    private boolean closedRecords;
+
+    @CommandLine.Option(names = {"--readonly-types"},
+            description = "Generate readonly types for the events and the parameters of the remote functions")
+    private boolean readonlyTypes;
+
+    @CommandLine.Option(names = {"--channel-paths"},
+            description = "Generate a resource path in the dispatcher service for each service type")
+    private boolean channelPaths;
+
+    @CommandLine.Option(names = {"--batch-endpoint"},
+            description = "Generate a resource path in the dispatcher service which accepts a batch of events")
+    private boolean batchEndpoint;
+
+    @CommandLine.Option(names = {"--websocket"},
+            description = "Generate a WebSocket endpoint in the listener which accepts the events over persistent "
+                    + "connections. The maximum payload size and the event capture apply to each event of a "
+                    + "connection")
+    private boolean webSocketTransport;
+
+    @CommandLine.Option(names = {"--channels"}, split = ",",
+            description = "Comma separated names of the channels to generate the code for")
+    private List<String> channels;
+
+    @CommandLine.Option(names = {"--events"}, split = ",",
+            description = "Comma separated x-ballerina-event-type values of the events to generate the code for")
+    private List<String> events;
+
     @CommandLine.Parameters
     private List<String> argList;
 
@@ -101,8 +152,22 @@ public class AsyncApiCmd implements BLauncherCmd {
             }
             String fileName = argList.get(0);
             Application codeGenerator = new CodeGenerator();
+            CodegenOptions options = new CodegenOptions();
+            options.setGenerateClient(generateClient);
+            options.setPreserveReferences(preserveReferences);
+            options.setKeepUnusedSchemas(keepUnusedSchemas);
+            options.setSortedOutput(sortedOutput);
+            options.setHoistNestedRecords(hoistNestedRecords);
+            options.setClosedRecords(closedRecords);
+            options.setReadonlyTypes(readonlyTypes);
+            options.setChannelPaths(channelPaths);
+            options.setBatchEndpoint(batchEndpoint);
+            options.setWebSocketTransport(webSocketTransport);
+            options.setSelectedChannels(channels);
+            options.setSelectedEvents(events);
             try {
-                codeGenerator.generate(fileName, (outputPath == null) ? String.valueOf(executionPath) : outputPath);
+                codeGenerator.generate(fileName, (outputPath == null) ? String.valueOf(executionPath) : outputPath,
+                        options);
             } catch (BallerinaAsyncApiException e) {
                 outStream.println(e.getMessage());
                 exitError(this.exitWhenFinish);
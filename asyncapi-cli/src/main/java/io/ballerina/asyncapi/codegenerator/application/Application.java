@@ -19,10 +19,13 @@
 package io.ballerina.asyncapi.codegenerator.application;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.CodegenOptions;
 
 /**
  * This is the interface of the application, Async API CMD class uses this interface.
  */
 public interface Application {
     void generate(String specPath, String outputPath) throws BallerinaAsyncApiException;
+
+    void generate(String specPath, String outputPath, CodegenOptions options) throws BallerinaAsyncApiException;
 }
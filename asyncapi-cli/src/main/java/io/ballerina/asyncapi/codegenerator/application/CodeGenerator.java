@@ -19,9 +19,11 @@
 package io.ballerina.asyncapi.codegenerator.application;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.CodegenOptions;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
 import io.ballerina.asyncapi.codegenerator.controller.AsyncApiSpecController;
 import io.ballerina.asyncapi.codegenerator.controller.BalController;
+import io.ballerina.asyncapi.codegenerator.controller.ClientController;
 import io.ballerina.asyncapi.codegenerator.controller.DispatcherController;
 import io.ballerina.asyncapi.codegenerator.controller.ListenerController;
 import io.ballerina.asyncapi.codegenerator.controller.SchemaController;
@@ -33,6 +35,7 @@ import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
 
 import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -56,27 +59,61 @@ public class CodeGenerator implements Application {
 
     @Override
     public void generate(String specPath, String outputPath) throws BallerinaAsyncApiException {
+        generate(specPath, outputPath, new CodegenOptions());
+    }
+
+    @Override
+    public void generate(String specPath, String outputPath, CodegenOptions options)
+            throws BallerinaAsyncApiException {
         String asyncApiSpecJson = getFileContent(fileRepository, specPath);
 
-        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson, specPath, fileRepository,
+                options);
         Map<String, Schema> schemas = specController.getSchemas();
         List<ServiceType> serviceTypes = specController.getServiceTypes();
         String eventIdentifierType = specController.getEventIdentifierType();
         String eventIdentifierPath = specController.getEventIdentifierPath();
+        if (options.isWebSocketTransport() && !eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_BODY)) {
+            throw new BallerinaAsyncApiException("WebSocket transport requires the event identifier to be in the "
+                    + "body of the events, since the messages of a WebSocket connection do not have headers");
+        }
+        if (options.isBatchEndpoint() && !eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_BODY)) {
+            throw new BallerinaAsyncApiException("Batch endpoint requires the event identifier to be in the body of "
+                    + "the events, since the events of a batch can not have a different header each");
+        }
+        if (serviceTypes.stream().flatMap(serviceType -> serviceType.getRemoteFunctions().stream())
+                .anyMatch(remoteFunction -> remoteFunction.getPriority() != null)) {
+            outStream.println("WARNING: The priorities of the events are ignored unless maxConcurrentDispatches is "
+                    + "set in the configs of the listener, the concurrent dispatches are not limited by default");
+        }
 
         String dataTypesTemplate = fileRepository.getFileContentFromResources(Constants.DATA_TYPES_BAL_FILE_NAME);
-        BalController schemaController = new SchemaController(schemas);
+        BalController schemaController = new SchemaController(schemas, serviceTypes, options);
         String dataTypesBalContent = schemaController.generateBalCode(dataTypesTemplate);
 
-        BalController serviceTypesController = new ServiceTypesController(serviceTypes);
+        BalController serviceTypesController = new ServiceTypesController(serviceTypes, options);
         String serviceTypesBalContent = serviceTypesController.generateBalCode(Constants.EMPTY_BALLERINA_FILE_CONTENT);
 
         String listenerTemplate = fileRepository.getFileContentFromResources(Constants.LISTENER_BAL_FILE_NAME);
-        BalController listenerController = new ListenerController(serviceTypes);
+        List<String> listenerExtensionTemplates = new ArrayList<>();
+        if (options.isWebSocketTransport()) {
+            listenerExtensionTemplates.add(fileRepository.getFileContentFromResources(
+                    Constants.LISTENER_WEBSOCKET_BAL_FILE_NAME));
+        }
+        BalController listenerController = new ListenerController(serviceTypes, listenerExtensionTemplates);
         String listenerBalContent = listenerController.generateBalCode(listenerTemplate);
 
+        List<String> dispatcherExtensionTemplates = new ArrayList<>();
+        if (options.isBatchEndpoint()) {
+            dispatcherExtensionTemplates.add(fileRepository.getFileContentFromResources(
+                    Constants.DISPATCHER_SERVICE_BATCH_BAL_FILE_NAME));
+        }
+        if (options.isWebSocketTransport()) {
+            dispatcherExtensionTemplates.add(fileRepository.getFileContentFromResources(
+                    Constants.DISPATCHER_SERVICE_WEBSOCKET_BAL_FILE_NAME));
+        }
         BalController dispatcherController = new DispatcherController(serviceTypes, eventIdentifierType,
-                eventIdentifierPath);
+                eventIdentifierPath, options, dispatcherExtensionTemplates);
         String dispatcherContent = "";
         if (eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_BODY)) {
             String dispatcherTemplateForEventIdentifierInBody = fileRepository
@@ -98,8 +135,18 @@ public class CodeGenerator implements Application {
         fileRepository
                 .writeToFile(outputDirectory.concat(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME), dispatcherContent);
 
-        outStream.println("Following files were generated successfully:" +
-                "\n--data_types.bal\n--service_types.bal\n--listener.bal\n--dispatcher_service.bal");
+        String generatedFiles = "\n--data_types.bal\n--service_types.bal\n--listener.bal\n--dispatcher_service.bal";
+
+        if (options.isGenerateClient()) {
+            String clientTemplate = fileRepository.getFileContentFromResources(Constants.CLIENT_BAL_FILE_NAME);
+            BalController clientController = new ClientController(serviceTypes, eventIdentifierType,
+                    eventIdentifierPath);
+            String clientContent = clientController.generateBalCode(clientTemplate);
+            fileRepository.writeToFile(outputDirectory.concat(Constants.CLIENT_BAL_FILE_NAME), clientContent);
+            generatedFiles = generatedFiles.concat("\n--client.bal");
+        }
+
+        outStream.println("Following files were generated successfully:" + generatedFiles);
     }
 
     private String getOutputDirectory(String outputPath) {
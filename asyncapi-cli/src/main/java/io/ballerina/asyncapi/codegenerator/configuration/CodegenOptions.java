@@ -0,0 +1,193 @@
+/*
+ *  Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.configuration;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Options which control the code generation. The default values generate the listener as it is described in the
+ * AsyncAPI specification.
+ */
+public class CodegenOptions {
+    private boolean generateClient = false;
+    private boolean preserveReferences = false;
+    private boolean keepUnusedSchemas = false;
+    private boolean sortedOutput = false;
+    private boolean hoistNestedRecords = false;
+    private boolean closedRecords = false;
+    private boolean readonlyTypes = false;
+    private boolean channelPaths = false;
+    private boolean batchEndpoint = false;
+    private boolean webSocketTransport = false;
+    private Set<String> selectedChannels = Collections.emptySet();
+    private Set<String> selectedEvents = Collections.emptySet();
+
+    public boolean isGenerateClient() {
+        return generateClient;
+    }
+
+    public void setGenerateClient(boolean generateClient) {
+        this.generateClient = generateClient;
+    }
+
+    public boolean isPreserveReferences() {
+        return preserveReferences;
+    }
+
+    public void setPreserveReferences(boolean preserveReferences) {
+        this.preserveReferences = preserveReferences;
+    }
+
+    public boolean isKeepUnusedSchemas() {
+        return keepUnusedSchemas;
+    }
+
+    public void setKeepUnusedSchemas(boolean keepUnusedSchemas) {
+        this.keepUnusedSchemas = keepUnusedSchemas;
+    }
+
+    /**
+     * Get the names of the channels to generate the code for.
+     *
+     * @return names of the selected channels, or an empty set when all the channels are generated
+     */
+    public Set<String> getSelectedChannels() {
+        return selectedChannels;
+    }
+
+    public void setSelectedChannels(Collection<String> selectedChannels) {
+        this.selectedChannels = selectedChannels == null
+                ? Collections.emptySet() : new LinkedHashSet<>(selectedChannels);
+    }
+
+    /**
+     * Get the x-ballerina-event-type values of the events to generate the code for.
+     *
+     * @return selected events, or an empty set when all the events are generated
+     */
+    public Set<String> getSelectedEvents() {
+        return selectedEvents;
+    }
+
+    public void setSelectedEvents(Collection<String> selectedEvents) {
+        this.selectedEvents = selectedEvents == null ? Collections.emptySet() : new LinkedHashSet<>(selectedEvents);
+    }
+
+    /**
+     * Whether the types, service types and remote functions are generated in the alphabetical order of their names,
+     * instead of the order they are defined in the spec.
+     *
+     * @return true if the generated code is sorted by the names
+     */
+    public boolean isSortedOutput() {
+        return sortedOutput;
+    }
+
+    public void setSortedOutput(boolean sortedOutput) {
+        this.sortedOutput = sortedOutput;
+    }
+
+    /**
+     * Whether the objects nested inside the schemas are generated as separate named record types, instead of
+     * anonymous records inside the type they are nested in.
+     *
+     * @return true if the nested records are generated as named types
+     */
+    public boolean isHoistNestedRecords() {
+        return hoistNestedRecords;
+    }
+
+    public void setHoistNestedRecords(boolean hoistNestedRecords) {
+        this.hoistNestedRecords = hoistNestedRecords;
+    }
+
+    /**
+     * Whether the records are closed for all the schemas which do not allow additional properties explicitly. The
+     * schemas which set additionalProperties to false are generated as closed records regardless of this option.
+     *
+     * @return true if the records are closed by default
+     */
+    public boolean isClosedRecords() {
+        return closedRecords;
+    }
+
+    public void setClosedRecords(boolean closedRecords) {
+        this.closedRecords = closedRecords;
+    }
+
+    /**
+     * Whether the types of the events and the event parameters of the remote functions are readonly, so that the
+     * events can be shared with the isolated services without copying them.
+     *
+     * @return true if the event types are readonly
+     */
+    public boolean isReadonlyTypes() {
+        return readonlyTypes;
+    }
+
+    public void setReadonlyTypes(boolean readonlyTypes) {
+        this.readonlyTypes = readonlyTypes;
+    }
+
+    /**
+     * Whether the dispatcher service has a resource function for each service type, so that the events of a channel
+     * can be posted to the path of its service type and routed by the HTTP layer, instead of matching all the events
+     * in a single resource function.
+     *
+     * @return true if a resource function is generated for each service type
+     */
+    public boolean isChannelPaths() {
+        return channelPaths;
+    }
+
+    public void setChannelPaths(boolean channelPaths) {
+        this.channelPaths = channelPaths;
+    }
+
+    /**
+     * Whether the dispatcher service has a batch resource function, which accepts a JSON array of events or one event
+     * per line, and responds with the status of each event.
+     *
+     * @return true if the batch resource function is generated
+     */
+    public boolean isBatchEndpoint() {
+        return batchEndpoint;
+    }
+
+    public void setBatchEndpoint(boolean batchEndpoint) {
+        this.batchEndpoint = batchEndpoint;
+    }
+
+    /**
+     * Whether the listener also accepts the events over persistent WebSocket connections, where each text message is
+     * an event and the events are acknowledged one by one or once per window.
+     *
+     * @return true if the WebSocket transport is generated
+     */
+    public boolean isWebSocketTransport() {
+        return webSocketTransport;
+    }
+
+    public void setWebSocketTransport(boolean webSocketTransport) {
+        this.webSocketTransport = webSocketTransport;
+    }
+}
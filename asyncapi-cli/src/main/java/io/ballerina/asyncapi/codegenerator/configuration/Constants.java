@@ -33,9 +33,15 @@ public final class Constants {
             "dispatcher_service.bal";
     public static final String DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER =
             "dispatcher_service_for_event_identifier_in_header.bal";
+    public static final String DISPATCHER_SERVICE_BATCH_BAL_FILE_NAME = "dispatcher_service_batch.bal";
+    public static final String DISPATCHER_SERVICE_WEBSOCKET_BAL_FILE_NAME = "dispatcher_service_websocket.bal";
+    public static final String LISTENER_WEBSOCKET_BAL_FILE_NAME = "listener_websocket.bal";
+    public static final String CLIENT_BAL_FILE_NAME = "client.bal";
     public static final List<String> BAL_KEYWORDS;
     public static final List<String> BAL_TYPES;
     public static final String ESCAPE_PATTERN = "([\\[\\]\\\\?!<>@#&~`*\\-=^+();:\\/\\_{}\\s|.$])";
+    // An identifier, where the characters other than the letters, the digits and '_' are escaped with '\'
+    public static final String BAL_IDENTIFIER_PATTERN = "'?([_\\p{L}\\p{N}]|\\\\[^\\p{Alpha}\\s])+";
     //TODO Update keywords if Ballerina Grammer changes
     private static final String[] KEYWORDS = new String[]{"abort", "aborted", "abstract", "all", "annotation",
             "any", "anydata", "boolean", "break", "byte", "catch", "channel", "check", "checkpanic", "client",
@@ -70,6 +76,10 @@ public final class Constants {
 
     public static final String X_BALLERINA_EVENT_TYPE = "x-ballerina-event-type";
     public static final String X_BALLERINA_SERVICE_TYPE = "x-ballerina-service-type";
+    public static final String X_BALLERINA_PARTITION_KEY = "x-ballerina-partition-key";
+    public static final String X_BALLERINA_PRIORITY = "x-ballerina-priority";
+    public static final String PRIORITY_NORMAL = "normal";
+    public static final List<String> PRIORITIES = List.of("high", PRIORITY_NORMAL, "low");
     public static final String X_BALLERINA_EVENT_FIELD_IDENTIFIER = "x-ballerina-event-identifier";
     public static final String X_BALLERINA_EVENT_FIELD_IDENTIFIER_TYPE = "type";
     public static final String X_BALLERINA_EVENT_TYPE_HEADER = "header";
@@ -77,14 +87,29 @@ public final class Constants {
     public static final String X_BALLERINA_EVENT_FIELD_IDENTIFIER_PATH = "path";
     public static final String X_BALLERINA_EVENT_FIELD_IDENTIFIER_NAME = "name";
     public static final String CLONE_WITH_TYPE_VAR_NAME = "genericDataType";
+    public static final String CLONE_WITH_TYPE_FUNCTION_NAME = "cloneWithType";
+    public static final String PAYLOAD_VAR_NAME = "payload";
     public static final String INTEROP_INVOKE_FUNCTION_NAME = "executeRemoteFunc";
+    public static final String INTEROP_INVOKE_IN_ORDER_FUNCTION_NAME = "executeRemoteFuncInOrder";
     public static final String LISTENER_SERVICE_TYPE_FILTER_FUNCTION_NAME = "getServiceTypeStr";
     public static final String DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME = "matchRemoteFunc";
     public static final String DISPATCHER_SERVICE_POST_FUNCTION_NAME = "post";
+    public static final String DISPATCHER_SERVICE_CLASS_NAME = "DispatcherService";
+    public static final String LISTENER_CLASS_NAME = "Listener";
+    public static final String DISPATCHER_SERVICE_EVENT_IDENTIFIER_HEADER_CONST_NAME = "EVENT_IDENTIFIER_HEADER";
     public static final String REMOTE_FUNCTION_NAME_PREFIX = "on";
+    public static final String CLIENT_REMOTE_FUNCTION_NAME_PREFIX = "send";
+    public static final String CLIENT_CLASS_NAME = "Client";
+    public static final String CLIENT_SEND_EVENT_FUNCTION_NAME = "sendEvent";
+    public static final String CLIENT_SEND_BATCH_FUNCTION_NAME = "sendBatch";
+    public static final String CLIENT_BATCH_STATUS_TYPE_NAME = "BatchEventStatus";
+    public static final String CLIENT_SET_EVENT_IDENTIFIER_FUNCTION_NAME = "setEventIdentifier";
+    public static final String CLIENT_SET_JSON_FIELD_FUNCTION_NAME = "setJsonField";
     public static final String SERVICE_TYPE_NAME_SUFFIX = "Service";
+    public static final String SERVICE_DATA_TYPE_NAME_SUFFIX = "DataType";
 
     public static final String SELF_KEYWORD = "self";
+    public static final String NATIVE_HANDLER_MODULE_PREFIX = "handler";
     public static final String GENERIC_SERVICE_TYPE = "GenericServiceType";
     public static final String GENERIC_DATA_TYPE = "GenericDataType";
 
@@ -18,21 +18,40 @@
 
 package io.ballerina.asyncapi.codegenerator.controller;
 
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.apicurio.datamodels.Library;
 import io.apicurio.datamodels.asyncapi.models.AaiDocument;
 import io.apicurio.datamodels.asyncapi.v2.models.Aai20Document;
 import io.apicurio.datamodels.core.util.ReferenceResolverChain;
 import io.apicurio.datamodels.openapi.visitors.dereference.Dereferencer;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.CodegenOptions;
 import io.ballerina.asyncapi.codegenerator.entity.MultiChannel;
+import io.ballerina.asyncapi.codegenerator.entity.RemoteFunction;
 import io.ballerina.asyncapi.codegenerator.entity.Schema;
 import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import io.ballerina.asyncapi.codegenerator.repository.SpecDocumentCache;
 import io.ballerina.asyncapi.codegenerator.usecase.ExtractChannelsFromSpec;
 import io.ballerina.asyncapi.codegenerator.usecase.ExtractIdentifierPathFromSpec;
 import io.ballerina.asyncapi.codegenerator.usecase.ExtractIdentifierTypeFromSpec;
+import io.ballerina.asyncapi.codegenerator.usecase.ExtractNestedSchemas;
+import io.ballerina.asyncapi.codegenerator.usecase.ExtractReachableSchemas;
+import io.ballerina.asyncapi.codegenerator.usecase.ExtractReferencesFromSpec;
 import io.ballerina.asyncapi.codegenerator.usecase.ExtractSchemasFromSpec;
 import io.ballerina.asyncapi.codegenerator.usecase.Extractor;
+import io.ballerina.asyncapi.codegenerator.usecase.ResolveExternalReferences;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -47,20 +66,57 @@ public class AsyncApiSpecController implements SpecController {
     private String eventIdentifierPath;
 
     public AsyncApiSpecController(String asyncApiSpecJson) throws BallerinaAsyncApiException {
-        readSpec(asyncApiSpecJson);
+        this(asyncApiSpecJson, new CodegenOptions());
     }
 
-    private void readSpec(String asyncApiSpecJson) throws BallerinaAsyncApiException {
-        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
-        Dereferencer dereferencer = new Dereferencer(asyncApiSpec, ReferenceResolverChain.getInstance(), false);
-        asyncApiSpec = (Aai20Document) dereferencer.dereference();
-        Set<String> unresolvedRefs = dereferencer.getUnresolvableReferences();
-        if (!unresolvedRefs.isEmpty()) {
-            throw new BallerinaAsyncApiException("Could not resolve some Yaml paths defined in $ref attributes: "
-                    .concat(String.join(", ", unresolvedRefs)));
+    public AsyncApiSpecController(String asyncApiSpecJson, CodegenOptions options)
+            throws BallerinaAsyncApiException {
+        this(asyncApiSpecJson, null, new FileRepositoryImpl(), options);
+    }
+
+    /**
+     * Constructor for the spec controller, which resolves the references to other files relative to the given spec
+     * path.
+     *
+     * @param asyncApiSpecJson AsyncAPI spec as a JSON string
+     * @param specPath         path of the AsyncAPI spec, or null to resolve the references relative to the working
+     *                         directory
+     * @param fileRepository   repository to read the referenced files
+     * @param options          code generation options
+     * @throws BallerinaAsyncApiException if the spec or any of the referenced files is not valid
+     */
+    public AsyncApiSpecController(String asyncApiSpecJson, String specPath, FileRepository fileRepository,
+                                  CodegenOptions options) throws BallerinaAsyncApiException {
+        Path baseDirectory = specPath == null
+                ? Paths.get("").toAbsolutePath() : Paths.get(specPath).toAbsolutePath().getParent();
+        readSpec(asyncApiSpecJson, baseDirectory, new SpecDocumentCache(fileRepository), options);
+    }
+
+    private void readSpec(String asyncApiSpecJson, Path baseDirectory, SpecDocumentCache documentCache,
+                          CodegenOptions options) throws BallerinaAsyncApiException {
+        JsonNode specNode;
+        try {
+            specNode = new ObjectMapper().readTree(asyncApiSpecJson);
+        } catch (JsonProcessingException e) {
+            throw new BallerinaAsyncApiException("Error parsing the json, please validate the json file", e);
         }
+        ResolveExternalReferences resolveExternalReferences =
+                new ResolveExternalReferences(specNode, baseDirectory, documentCache);
+        specNode = resolveExternalReferences.resolve();
 
-        Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec);
+        AaiDocument asyncApiSpec = null;
+        if (options.isPreserveReferences()) {
+            asyncApiSpec = readSpecPreservingReferences(specNode);
+        }
+        if (asyncApiSpec == null) {
+            asyncApiSpec = (Aai20Document) Library.readDocument(specNode);
+            Dereferencer dereferencer = new Dereferencer(asyncApiSpec, ReferenceResolverChain.getInstance(), false);
+            asyncApiSpec = (Aai20Document) dereferencer.dereference();
+            throwIfUnresolved(dereferencer.getUnresolvableReferences());
+        }
+
+        Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec, options.getSelectedChannels(),
+                options.getSelectedEvents());
         Extractor extractSchemas = new ExtractSchemasFromSpec(asyncApiSpec);
         Extractor extractIdentifierType = new ExtractIdentifierTypeFromSpec(asyncApiSpec);
         Extractor extractIdentifierPath = new ExtractIdentifierPathFromSpec(asyncApiSpec);
@@ -69,10 +125,80 @@ public class AsyncApiSpecController implements SpecController {
         serviceTypes = multiChannel.getServiceTypes();
         schemas = extractSchemas.extract();
         schemas.putAll(multiChannel.getInlineSchemas());
+        if (!options.isKeepUnusedSchemas()) {
+            Extractor extractReachableSchemas = new ExtractReachableSchemas(schemas, serviceTypes);
+            schemas = extractReachableSchemas.extract();
+        }
+        if (options.isHoistNestedRecords()) {
+            Extractor extractNestedSchemas = new ExtractNestedSchemas(schemas, serviceTypes);
+            schemas = extractNestedSchemas.extract();
+        }
+        if (options.isSortedOutput()) {
+            sortByName();
+        }
         eventIdentifierType = extractIdentifierType.extract();
         eventIdentifierPath = extractIdentifierPath.extract();
     }
 
+    /**
+     * Read the spec without dereferencing it, when all the $ref attributes point into the same document. The
+     * references are resolved only to validate them, and are kept as references in the document, as the
+     * extractors only need the names of the referenced schemas.
+     *
+     * @param specNode AsyncAPI spec as a JSON node
+     * @return the spec document, or null if the spec has remote references which have to be dereferenced
+     * @throws BallerinaAsyncApiException if the spec has unresolvable references
+     */
+    private AaiDocument readSpecPreservingReferences(JsonNode specNode) throws BallerinaAsyncApiException {
+        Extractor extractReferences = new ExtractReferencesFromSpec(specNode);
+        Set<String> references = extractReferences.extract();
+        Set<String> unresolvedRefs = new LinkedHashSet<>();
+        for (String reference : references) {
+            if (!reference.startsWith("#")) {
+                return null;
+            }
+            if (!isResolvable(specNode, reference)) {
+                unresolvedRefs.add(reference);
+            }
+        }
+        throwIfUnresolved(unresolvedRefs);
+        return (Aai20Document) Library.readDocument(specNode);
+    }
+
+    /**
+     * Sort the schemas, the service types and their remote functions by name. The default is the order of the spec,
+     * which is already stable, but changes when the spec is reordered.
+     */
+    private void sortByName() {
+        Map<String, Schema> sortedSchemas = new LinkedHashMap<>();
+        schemas.keySet().stream().sorted().forEach(name -> sortedSchemas.put(name, schemas.get(name)));
+        schemas = sortedSchemas;
+
+        List<ServiceType> sortedServiceTypes = new ArrayList<>();
+        for (ServiceType serviceType : serviceTypes) {
+            List<RemoteFunction> remoteFunctions = new ArrayList<>(serviceType.getRemoteFunctions());
+            remoteFunctions.sort(Comparator.comparing(RemoteFunction::getEventName));
+            sortedServiceTypes.add(new ServiceType(serviceType.getServiceTypeName(), remoteFunctions));
+        }
+        sortedServiceTypes.sort(Comparator.comparing(ServiceType::getServiceTypeName));
+        serviceTypes = sortedServiceTypes;
+    }
+
+    private boolean isResolvable(JsonNode specNode, String reference) {
+        try {
+            return !specNode.at(JsonPointer.compile(reference.substring(1))).isMissingNode();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void throwIfUnresolved(Set<String> unresolvedRefs) throws BallerinaAsyncApiException {
+        if (!unresolvedRefs.isEmpty()) {
+            throw new BallerinaAsyncApiException("Could not resolve some Yaml paths defined in $ref attributes: "
+                    .concat(String.join(", ", unresolvedRefs)));
+        }
+    }
+
     @Override
     public List<ServiceType> getServiceTypes() {
         return serviceTypes;
@@ -0,0 +1,266 @@
+/*
+ *  Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.controller;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.entity.RemoteFunction;
+import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+import io.ballerina.asyncapi.codegenerator.usecase.GenerateClientFunctionNode;
+import io.ballerina.asyncapi.codegenerator.usecase.Generator;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocuments;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createCheckExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createExpressionStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionCallExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createListConstructorExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMethodCallExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createPositionalArgumentNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACKET_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACKET_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
+
+/**
+ * This file contains the logics and functions related to code generation of the client.bal.
+ */
+public class ClientController implements BalController {
+    private final List<ServiceType> serviceTypes;
+    private final String eventIdentifierType;
+    private final String eventIdentifierPath;
+
+    public ClientController(List<ServiceType> serviceTypes, String eventIdentifierType,
+                            String eventIdentifierPath) {
+        this.serviceTypes = serviceTypes;
+        this.eventIdentifierType = eventIdentifierType;
+        this.eventIdentifierPath = eventIdentifierPath;
+    }
+
+    @Override
+    public String generateBalCode(String balTemplate) throws BallerinaAsyncApiException {
+        TextDocument textDocument = TextDocuments.from(balTemplate);
+        SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
+        ModulePartNode oldRoot = syntaxTree.rootNode();
+
+        ClassDefinitionNode clientClassNode = getClientClassNode(oldRoot);
+        if (clientClassNode == null) {
+            throw new BallerinaAsyncApiException("Client class '" + Constants.CLIENT_CLASS_NAME
+                    + "', is not found in the client.bal");
+        }
+        FunctionDefinitionNode setEventIdentifierNode = getSetEventIdentifierFuncNode(clientClassNode);
+        if (setEventIdentifierNode == null) {
+            throw new BallerinaAsyncApiException("Function '" + Constants.CLIENT_SET_EVENT_IDENTIFIER_FUNCTION_NAME
+                    + "', is not found in the client.bal");
+        }
+
+        FunctionBodyBlockNode functionBodyBlockNode = (FunctionBodyBlockNode) setEventIdentifierNode.functionBody();
+        FunctionBodyBlockNode functionBodyBlockNodeNew = functionBodyBlockNode.modify()
+                .withStatements(createNodeList(getSetEventIdentifierStatement())).apply();
+        ClassDefinitionNode midClassNode = clientClassNode.replace(functionBodyBlockNode, functionBodyBlockNodeNew);
+
+        NodeList<Node> members = midClassNode.members();
+        boolean eventIdentifierInHeader = eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_HEADER);
+        if (eventIdentifierInHeader) {
+            // A batch is sent in one request, which can not have a different event identifier header for each event
+            members = removeSendBatchFuncNode(members);
+        }
+        Set<String> eventNames = new HashSet<>();
+        for (ServiceType serviceType : serviceTypes) {
+            for (RemoteFunction remoteFunction : serviceType.getRemoteFunctions()) {
+                // The same event can be listened by more than one service type, but it is sent only once
+                if (eventNames.add(remoteFunction.getEventName())) {
+                    Generator generateClientFunction = new GenerateClientFunctionNode(remoteFunction);
+                    FunctionDefinitionNode clientFunctionNode = generateClientFunction.generate();
+                    members = members.add(clientFunctionNode);
+                }
+            }
+        }
+        ClassDefinitionNode newClassNode = midClassNode.modify().withMembers(members).apply();
+        ModulePartNode newRoot = oldRoot.replace(clientClassNode, newClassNode);
+        if (eventIdentifierInHeader) {
+            newRoot = removeBatchStatusTypeNode(newRoot);
+        }
+        SyntaxTree modifiedTree = syntaxTree.replaceNode(oldRoot, newRoot);
+
+        try {
+            return Formatter.format(modifiedTree).toSourceCode();
+        } catch (FormatterException e) {
+            throw new BallerinaAsyncApiException("Could not format the generated code, " +
+                    "may be a syntax issue in the generated code", e);
+        }
+    }
+
+    private ClassDefinitionNode getClientClassNode(ModulePartNode oldRoot) {
+        for (ModuleMemberDeclarationNode node : oldRoot.members()) {
+            if (node.kind() == SyntaxKind.CLASS_DEFINITION
+                    && ((ClassDefinitionNode) node).className().text().equals(Constants.CLIENT_CLASS_NAME)) {
+                return (ClassDefinitionNode) node;
+            }
+        }
+        return null;
+    }
+
+    private FunctionDefinitionNode getSetEventIdentifierFuncNode(ClassDefinitionNode clientClassNode) {
+        for (Node funcNode : clientClassNode.members()) {
+            if ((funcNode.kind() == SyntaxKind.OBJECT_METHOD_DEFINITION)
+                    && ((FunctionDefinitionNode) funcNode).functionName().text().equals(
+                    Constants.CLIENT_SET_EVENT_IDENTIFIER_FUNCTION_NAME)) {
+                return (FunctionDefinitionNode) funcNode;
+            }
+        }
+        return null;
+    }
+
+    private NodeList<Node> removeSendBatchFuncNode(NodeList<Node> members) {
+        for (int i = 0; i < members.size(); i++) {
+            Node funcNode = members.get(i);
+            if ((funcNode.kind() == SyntaxKind.OBJECT_METHOD_DEFINITION)
+                    && ((FunctionDefinitionNode) funcNode).functionName().text().equals(
+                    Constants.CLIENT_SEND_BATCH_FUNCTION_NAME)) {
+                return members.remove(i);
+            }
+        }
+        return members;
+    }
+
+    private ModulePartNode removeBatchStatusTypeNode(ModulePartNode root) {
+        NodeList<ModuleMemberDeclarationNode> members = root.members();
+        for (int i = 0; i < members.size(); i++) {
+            ModuleMemberDeclarationNode node = members.get(i);
+            if (node.kind() == SyntaxKind.TYPE_DEFINITION && ((TypeDefinitionNode) node).typeName().text()
+                    .equals(Constants.CLIENT_BATCH_STATUS_TYPE_NAME)) {
+                return root.modify().withMembers(members.remove(i)).apply();
+            }
+        }
+        return root;
+    }
+
+    private StatementNode getSetEventIdentifierStatement() {
+        if (eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_HEADER)) {
+            // {@code request.setHeader("event-name", eventName);}
+            ExpressionNode setHeaderCall = createMethodCallExpressionNode(
+                    createSimpleNameReferenceNode(createIdentifierToken("request")),
+                    createToken(SyntaxKind.DOT_TOKEN),
+                    createSimpleNameReferenceNode(createIdentifierToken("setHeader")),
+                    createToken(OPEN_PAREN_TOKEN),
+                    createSeparatedNodeList(
+                            createPositionalArgumentNode(createSimpleNameReferenceNode(
+                                    createIdentifierToken(toStringLiteral(unescape(eventIdentifierPath))))),
+                            createToken(COMMA_TOKEN),
+                            createPositionalArgumentNode(createSimpleNameReferenceNode(
+                                    createIdentifierToken("eventName")))),
+                    createToken(CLOSE_PAREN_TOKEN));
+            return createExpressionStatementNode(SyntaxKind.CALL_STATEMENT, setHeaderCall,
+                    createToken(SEMICOLON_TOKEN));
+        }
+
+        // {@code check setJsonField(payload, ["event", "type"], eventName);}
+        List<Node> pathSegments = new ArrayList<>();
+        for (String segment : splitPath(eventIdentifierPath)) {
+            if (!pathSegments.isEmpty()) {
+                pathSegments.add(createToken(COMMA_TOKEN));
+            }
+            pathSegments.add(createSimpleNameReferenceNode(createIdentifierToken(toStringLiteral(unescape(segment)))));
+        }
+        List<Node> arguments = new ArrayList<>();
+        arguments.add(createPositionalArgumentNode(createSimpleNameReferenceNode(createIdentifierToken("payload"))));
+        arguments.add(createToken(COMMA_TOKEN));
+        arguments.add(createPositionalArgumentNode(createListConstructorExpressionNode(
+                createToken(OPEN_BRACKET_TOKEN), createSeparatedNodeList(pathSegments),
+                createToken(CLOSE_BRACKET_TOKEN))));
+        arguments.add(createToken(COMMA_TOKEN));
+        arguments.add(createPositionalArgumentNode(createSimpleNameReferenceNode(
+                createIdentifierToken("eventName"))));
+        ExpressionNode setJsonFieldCall = createFunctionCallExpressionNode(
+                createSimpleNameReferenceNode(createIdentifierToken(Constants.CLIENT_SET_JSON_FIELD_FUNCTION_NAME)),
+                createToken(OPEN_PAREN_TOKEN), createSeparatedNodeList(arguments), createToken(CLOSE_PAREN_TOKEN));
+        return createExpressionStatementNode(SyntaxKind.CALL_STATEMENT,
+                createCheckExpressionNode(SyntaxKind.CHECK_EXPRESSION, createToken(SyntaxKind.CHECK_KEYWORD),
+                        setJsonFieldCall),
+                createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Split the event identifier path into its segments. A dot escaped with a backslash is a part of the segment, as
+     * the segments are escaped with {@code CodegenUtils.escapeIdentifier}.
+     */
+    private List<String> splitPath(String path) {
+        List<String> segments = new ArrayList<>();
+        int segmentStart = 0;
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '.') {
+                segments.add(path.substring(segmentStart, i));
+                segmentStart = i + 1;
+            }
+        }
+        segments.add(path.substring(segmentStart));
+        return segments;
+    }
+
+    /**
+     * Reverse {@code CodegenUtils.escapeIdentifier}, which adds a leading quote or escapes the characters which are
+     * not allowed in an identifier with a backslash.
+     */
+    private String unescape(String identifier) {
+        String unquoted = identifier.startsWith("'") ? identifier.substring(1) : identifier;
+        StringBuilder unescaped = new StringBuilder();
+        for (int i = 0; i < unquoted.length(); i++) {
+            char c = unquoted.charAt(i);
+            if (c == '\\' && i + 1 < unquoted.length()) {
+                c = unquoted.charAt(++i);
+            }
+            unescaped.append(c);
+        }
+        return unescaped.toString();
+    }
+
+    private String toStringLiteral(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
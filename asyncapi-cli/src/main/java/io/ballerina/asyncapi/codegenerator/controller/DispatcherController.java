@@ -19,17 +19,21 @@
 package io.ballerina.asyncapi.codegenerator.controller;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.CodegenOptions;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
 import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
 import io.ballerina.asyncapi.codegenerator.usecase.GenerateMatchStatementNode;
 import io.ballerina.asyncapi.codegenerator.usecase.Generator;
+import io.ballerina.asyncapi.codegenerator.usecase.utils.CodegenUtils;
 import io.ballerina.compiler.syntax.tree.BuiltinSimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.CheckExpressionNode;
 import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ConstantDeclarationNode;
 import io.ballerina.compiler.syntax.tree.FunctionArgumentNode;
 import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.MatchStatementNode;
 import io.ballerina.compiler.syntax.tree.MethodCallExpressionNode;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
@@ -48,9 +52,11 @@ import io.ballerina.tools.text.TextDocuments;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
+import java.util.Collections;
 import java.util.List;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createCaptureBindingPatternNode;
@@ -67,6 +73,7 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.DOT_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.RESOURCE_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
 
@@ -77,12 +84,37 @@ public class DispatcherController implements BalController {
     private final List<ServiceType> serviceTypes;
     private final String eventIdentifierType;
     private final String eventIdentifierPath;
+    private final CodegenOptions options;
+    private final List<String> extensionTemplates;
+    private final CodegenUtils codegenUtils = new CodegenUtils();
 
     public DispatcherController(List<ServiceType> serviceTypes, String eventIdentifierType,
                                 String eventIdentifierPath) {
+        this(serviceTypes, eventIdentifierType, eventIdentifierPath, new CodegenOptions());
+    }
+
+    public DispatcherController(List<ServiceType> serviceTypes, String eventIdentifierType,
+                                String eventIdentifierPath, CodegenOptions options) {
+        this(serviceTypes, eventIdentifierType, eventIdentifierPath, options, Collections.emptyList());
+    }
+
+    /**
+     * Constructor override, which also merges the given templates into the dispatcher service, e.g. the batch
+     * resource function when the batch endpoint is enabled.
+     *
+     * @param serviceTypes        service types to dispatch the events to
+     * @param eventIdentifierType whether the event identifier is in the header or in the body
+     * @param eventIdentifierPath path of the event identifier
+     * @param options             options which control the generated dispatcher service
+     * @param extensionTemplates  templates of the functions and the services to add to the dispatcher service
+     */
+    public DispatcherController(List<ServiceType> serviceTypes, String eventIdentifierType,
+                                String eventIdentifierPath, CodegenOptions options, List<String> extensionTemplates) {
         this.serviceTypes = serviceTypes;
         this.eventIdentifierType = eventIdentifierType;
         this.eventIdentifierPath = eventIdentifierPath;
+        this.options = options;
+        this.extensionTemplates = extensionTemplates;
     }
 
     @Override
@@ -91,7 +123,9 @@ public class DispatcherController implements BalController {
         SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
         ModulePartNode oldRoot = syntaxTree.rootNode();
 
-        String eventIdentifierPath = Constants.CLONE_WITH_TYPE_VAR_NAME.concat(".").concat(this.eventIdentifierPath);
+        // The event identifier is read from the JSON payload, before converting the payload into the event type
+        String eventIdentifierPath = "check ".concat(Constants.PAYLOAD_VAR_NAME).concat(".")
+                .concat(this.eventIdentifierPath);
         if (this.eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_HEADER)) {
             eventIdentifierPath = "eventIdentifier";
 
@@ -105,11 +139,18 @@ public class DispatcherController implements BalController {
             FunctionBodyBlockNode postFunctionBodyBlockNode =
                     (FunctionBodyBlockNode) postFunctionDefinitionNode.functionBody();
             NodeList<StatementNode> oldStatement = postFunctionBodyBlockNode.statements();
-            oldStatement = oldStatement.remove(1);
-            NodeList<StatementNode> newStatement = oldStatement.add(1, getEventIdentifierNode());
+            int eventIdentifierIndex = getEventIdentifierStatementIndex(oldStatement);
+            if (eventIdentifierIndex < 0) {
+                throw new BallerinaAsyncApiException("Variable 'eventIdentifier', is not found in the resource "
+                        + "function '" + Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME
+                        + "' of the dispatcher_service.bal");
+            }
+            oldStatement = oldStatement.remove(eventIdentifierIndex);
+            NodeList<StatementNode> newStatement = oldStatement.add(eventIdentifierIndex, getEventIdentifierNode());
             FunctionBodyBlockNode postFunctionBodyBlockNodeNew =
                     postFunctionBodyBlockNode.modify().withStatements(newStatement).apply();
             ModulePartNode midRoot  = oldRoot.replace(postFunctionBodyBlockNode, postFunctionBodyBlockNodeNew);
+            midRoot = replaceEventIdentifierHeaderConstant(midRoot);
             syntaxTree = syntaxTree.replaceNode(oldRoot, midRoot);
             oldRoot = syntaxTree.rootNode();
         }
@@ -131,6 +172,12 @@ public class DispatcherController implements BalController {
         FunctionBodyBlockNode functionBodyBlockNodeNew =
                 functionBodyBlockNode.modify().withStatements(newStatements).apply();
         ModulePartNode newRoot = oldRoot.replace(functionBodyBlockNode, functionBodyBlockNodeNew);
+        if (options.isChannelPaths()) {
+            newRoot = addChannelResourceFunctions(newRoot, eventIdentifierPath);
+        }
+        for (String extensionTemplate : extensionTemplates) {
+            newRoot = addExtensionTemplate(newRoot, extensionTemplate);
+        }
         SyntaxTree modifiedTree = syntaxTree.replaceNode(oldRoot, newRoot);
 
         try {
@@ -141,6 +188,180 @@ public class DispatcherController implements BalController {
         }
     }
 
+    /**
+     * Add a resource function for each service type, which is the post resource function with the path of the
+     * service type. The channel is then selected by the HTTP router, and the resource function matches only the
+     * events of that channel.
+     */
+    private ModulePartNode addChannelResourceFunctions(ModulePartNode root, String eventIdentifierPath)
+            throws BallerinaAsyncApiException {
+        ClassDefinitionNode dispatcherClassNode = null;
+        FunctionDefinitionNode postFunctionDefinitionNode = null;
+        int resourceIndex = 0;
+        for (ModuleMemberDeclarationNode node : root.members()) {
+            if (node.kind() == SyntaxKind.CLASS_DEFINITION) {
+                NodeList<Node> classMembers = ((ClassDefinitionNode) node).members();
+                for (int i = 0; i < classMembers.size(); i++) {
+                    Node funcNode = classMembers.get(i);
+                    if ((funcNode.kind() == SyntaxKind.RESOURCE_ACCESSOR_DEFINITION)
+                            && ((FunctionDefinitionNode) funcNode).functionName().text().equals(
+                            Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME)) {
+                        dispatcherClassNode = (ClassDefinitionNode) node;
+                        postFunctionDefinitionNode = (FunctionDefinitionNode) funcNode;
+                        resourceIndex = i + 1;
+                    }
+                }
+            }
+        }
+        if (postFunctionDefinitionNode == null) {
+            throw new BallerinaAsyncApiException("Resource function '"
+                    + Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME
+                    + "', is not found in the dispatcher_service.bal");
+        }
+
+        FunctionBodyBlockNode postFunctionBodyBlockNode =
+                (FunctionBodyBlockNode) postFunctionDefinitionNode.functionBody();
+        NodeList<StatementNode> postStatements = postFunctionBodyBlockNode.statements();
+        int matchRemoteFuncIndex = getMatchRemoteFuncStatementIndex(postStatements);
+        if (matchRemoteFuncIndex < 0) {
+            throw new BallerinaAsyncApiException("Function call '"
+                    + Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME
+                    + "', is not found in the resource function '" + Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME
+                    + "' of the dispatcher_service.bal");
+        }
+
+        NodeList<Node> members = dispatcherClassNode.members();
+        for (ServiceType serviceType : serviceTypes) {
+            // Match the events of the channel directly in the resource function, instead of calling matchRemoteFunc
+            Generator generateMatchStatement = new GenerateMatchStatementNode(List.of(serviceType),
+                    eventIdentifierPath);
+            MatchStatementNode matchStatementNode = generateMatchStatement.generate();
+            NodeList<StatementNode> statements = postStatements.remove(matchRemoteFuncIndex)
+                    .add(matchRemoteFuncIndex, matchStatementNode);
+            FunctionDefinitionNode channelFunctionDefinitionNode = postFunctionDefinitionNode.modify()
+                    .withQualifierList(createNodeList(createToken(RESOURCE_KEYWORD)))
+                    .withRelativeResourcePath(createNodeList(createIdentifierToken(
+                            codegenUtils.getServiceTypeNameByServiceName(serviceType.getServiceTypeName()))))
+                    .withFunctionBody(postFunctionBodyBlockNode.modify().withStatements(statements).apply())
+                    .apply();
+            members = members.add(resourceIndex++, channelFunctionDefinitionNode);
+        }
+        return root.replace(dispatcherClassNode, dispatcherClassNode.modify().withMembers(members).apply());
+    }
+
+    /**
+     * Merge an extension template into the dispatcher service. The members of the dispatcher service class in the
+     * extension template are added after the other resource functions, and the other module level declarations and
+     * the imports which are not there already are added to the module.
+     */
+    private ModulePartNode addExtensionTemplate(ModulePartNode root, String extensionTemplate)
+            throws BallerinaAsyncApiException {
+        if (extensionTemplate == null || extensionTemplate.isBlank()) {
+            throw new BallerinaAsyncApiException("Template to extend the dispatcher_service.bal is empty");
+        }
+        ModulePartNode extensionRoot = SyntaxTree.from(TextDocuments.from(extensionTemplate)).rootNode();
+        ClassDefinitionNode extensionClassNode = getDispatcherClassNode(extensionRoot);
+        ClassDefinitionNode dispatcherClassNode = getDispatcherClassNode(root);
+        if (dispatcherClassNode == null) {
+            throw new BallerinaAsyncApiException("Service class '" + Constants.DISPATCHER_SERVICE_CLASS_NAME
+                    + "', is not found in the dispatcher_service.bal");
+        }
+
+        NodeList<Node> members = dispatcherClassNode.members();
+        int resourceIndex = 0;
+        for (int i = 0; i < members.size(); i++) {
+            if (members.get(i).kind() == SyntaxKind.RESOURCE_ACCESSOR_DEFINITION) {
+                resourceIndex = i + 1;
+            }
+        }
+        NodeList<Node> extensionMembers = extensionClassNode == null
+                ? createEmptyNodeList() : extensionClassNode.members();
+        for (Node extensionMember : extensionMembers) {
+            Node member = extensionMember;
+            if (this.eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_HEADER)
+                    && extensionMember.kind() == SyntaxKind.RESOURCE_ACCESSOR_DEFINITION) {
+                member = replaceEventIdentifierStatement((FunctionDefinitionNode) extensionMember);
+            }
+            members = members.add(resourceIndex++, member);
+        }
+        ModulePartNode newRoot = root.replace(dispatcherClassNode,
+                dispatcherClassNode.modify().withMembers(members).apply());
+
+        NodeList<ModuleMemberDeclarationNode> moduleMembers = newRoot.members();
+        for (ModuleMemberDeclarationNode extensionModuleMember : extensionRoot.members()) {
+            if (!isDispatcherClassNode(extensionModuleMember)) {
+                moduleMembers = moduleMembers.add(extensionModuleMember);
+            }
+        }
+        NodeList<ImportDeclarationNode> imports = newRoot.imports();
+        for (ImportDeclarationNode extensionImport : extensionRoot.imports()) {
+            boolean imported = false;
+            for (ImportDeclarationNode existingImport : imports) {
+                imported = imported || existingImport.toSourceCode().trim()
+                        .equals(extensionImport.toSourceCode().trim());
+            }
+            if (!imported) {
+                imports = imports.add(extensionImport);
+            }
+        }
+        return newRoot.modify().withImports(imports).withMembers(moduleMembers).apply();
+    }
+
+    private FunctionDefinitionNode replaceEventIdentifierStatement(FunctionDefinitionNode functionDefinitionNode) {
+        FunctionBodyBlockNode functionBodyBlockNode = (FunctionBodyBlockNode) functionDefinitionNode.functionBody();
+        NodeList<StatementNode> statements = functionBodyBlockNode.statements();
+        int eventIdentifierIndex = getEventIdentifierStatementIndex(statements);
+        if (eventIdentifierIndex < 0) {
+            // The resource function does not use the event identifier
+            return functionDefinitionNode;
+        }
+        statements = statements.remove(eventIdentifierIndex).add(eventIdentifierIndex, getEventIdentifierNode());
+        return functionDefinitionNode.modify()
+                .withFunctionBody(functionBodyBlockNode.modify().withStatements(statements).apply()).apply();
+    }
+
+    /**
+     * Set the name of the header with the event identifier to the constant, so that the captured requests record
+     * the header.
+     */
+    private ModulePartNode replaceEventIdentifierHeaderConstant(ModulePartNode root) {
+        for (ModuleMemberDeclarationNode node : root.members()) {
+            if (node.kind() == SyntaxKind.CONST_DECLARATION && ((ConstantDeclarationNode) node).variableName().text()
+                    .equals(Constants.DISPATCHER_SERVICE_EVENT_IDENTIFIER_HEADER_CONST_NAME)) {
+                ConstantDeclarationNode constantNode = (ConstantDeclarationNode) node;
+                return root.replace(constantNode, constantNode.modify().withInitializer(
+                        createSimpleNameReferenceNode(createIdentifierToken("\"" + this.eventIdentifierPath + "\"")))
+                        .apply());
+            }
+        }
+        return root;
+    }
+
+    private ClassDefinitionNode getDispatcherClassNode(ModulePartNode root) {
+        for (ModuleMemberDeclarationNode node : root.members()) {
+            if (isDispatcherClassNode(node)) {
+                return (ClassDefinitionNode) node;
+            }
+        }
+        return null;
+    }
+
+    private boolean isDispatcherClassNode(ModuleMemberDeclarationNode node) {
+        return node.kind() == SyntaxKind.CLASS_DEFINITION && ((ClassDefinitionNode) node).className().text()
+                .equals(Constants.DISPATCHER_SERVICE_CLASS_NAME);
+    }
+
+    private int getMatchRemoteFuncStatementIndex(NodeList<StatementNode> statements) {
+        for (int i = 0; i < statements.size(); i++) {
+            StatementNode statement = statements.get(i);
+            if (statement.kind() == SyntaxKind.CALL_STATEMENT && statement.toSourceCode()
+                    .contains(Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     private FunctionDefinitionNode getResourceFuncNode(ModulePartNode oldRoot) {
         for (ModuleMemberDeclarationNode node : oldRoot.members()) {
             if (node.kind() == SyntaxKind.CLASS_DEFINITION) {
@@ -171,6 +392,17 @@ public class DispatcherController implements BalController {
         return null;
     }
 
+    private int getEventIdentifierStatementIndex(NodeList<StatementNode> statements) {
+        for (int i = 0; i < statements.size(); i++) {
+            StatementNode statement = statements.get(i);
+            if (statement.kind() == SyntaxKind.LOCAL_VAR_DECL && ((VariableDeclarationNode) statement)
+                    .typedBindingPattern().bindingPattern().toSourceCode().trim().equals("eventIdentifier")) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     private VariableDeclarationNode getEventIdentifierNode() {
         // {@code string eventIdentifier}
         BuiltinSimpleNameReferenceNode typeBindingPattern = createBuiltinSimpleNameReferenceNode(null,
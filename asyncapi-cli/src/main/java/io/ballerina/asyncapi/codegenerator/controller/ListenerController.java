@@ -26,6 +26,7 @@ import io.ballerina.asyncapi.codegenerator.usecase.Generator;
 import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
 import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.Node;
@@ -38,9 +39,11 @@ import io.ballerina.tools.text.TextDocuments;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
 
 /**
@@ -48,9 +51,21 @@ import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeLi
  */
 public class ListenerController implements BalController {
     private final List<ServiceType> serviceTypes;
+    private final List<String> extensionTemplates;
 
     public ListenerController(List<ServiceType> serviceTypes) {
+        this(serviceTypes, Collections.emptyList());
+    }
+
+    /**
+     * Create the controller of the listener.bal.
+     *
+     * @param serviceTypes       service types which can be attached to the listener
+     * @param extensionTemplates templates of the members and the functions to add to the listener
+     */
+    public ListenerController(List<ServiceType> serviceTypes, List<String> extensionTemplates) {
         this.serviceTypes = serviceTypes;
+        this.extensionTemplates = extensionTemplates;
     }
 
     @Override
@@ -73,7 +88,11 @@ public class ListenerController implements BalController {
 
         FunctionBodyBlockNode functionBodyBlockNodeNew = functionBodyBlockNode
                 .modify().withStatements(statements).apply();
-        SyntaxTree modifiedTree = syntaxTree.replaceNode(functionBodyBlockNode, functionBodyBlockNodeNew);
+        ModulePartNode newRoot = oldRoot.replace(functionBodyBlockNode, functionBodyBlockNodeNew);
+        for (String extensionTemplate : extensionTemplates) {
+            newRoot = addExtensionTemplate(newRoot, extensionTemplate);
+        }
+        SyntaxTree modifiedTree = syntaxTree.replaceNode(oldRoot, newRoot);
 
         try {
             return Formatter.format(modifiedTree).toSourceCode();
@@ -83,6 +102,92 @@ public class ListenerController implements BalController {
         }
     }
 
+    /**
+     * Merge an extension template into the listener. A method of the listener class in the extension template
+     * replaces the method with the same name, and the other members of it are added after the fields of the listener
+     * class. The other module level declarations and the imports which are not there already are added to the module.
+     */
+    private ModulePartNode addExtensionTemplate(ModulePartNode root, String extensionTemplate)
+            throws BallerinaAsyncApiException {
+        if (extensionTemplate == null || extensionTemplate.isBlank()) {
+            throw new BallerinaAsyncApiException("Template to extend the listener.bal is empty");
+        }
+        ModulePartNode extensionRoot = SyntaxTree.from(TextDocuments.from(extensionTemplate)).rootNode();
+        ClassDefinitionNode extensionClassNode = getListenerClassNode(extensionRoot);
+        ClassDefinitionNode listenerClassNode = getListenerClassNode(root);
+        if (listenerClassNode == null) {
+            throw new BallerinaAsyncApiException("Class '" + Constants.LISTENER_CLASS_NAME
+                    + "', is not found in the listener.bal");
+        }
+
+        NodeList<Node> members = listenerClassNode.members();
+        int fieldIndex = 0;
+        for (int i = 0; i < members.size(); i++) {
+            if (members.get(i).kind() == SyntaxKind.OBJECT_FIELD) {
+                fieldIndex = i + 1;
+            }
+        }
+        NodeList<Node> extensionMembers = extensionClassNode == null
+                ? createEmptyNodeList() : extensionClassNode.members();
+        for (Node extensionMember : extensionMembers) {
+            int methodIndex = getMethodIndex(members, extensionMember);
+            if (methodIndex < 0) {
+                members = members.add(fieldIndex++, extensionMember);
+            } else {
+                members = members.remove(methodIndex).add(methodIndex, extensionMember);
+            }
+        }
+        ModulePartNode newRoot = root.replace(listenerClassNode,
+                listenerClassNode.modify().withMembers(members).apply());
+
+        NodeList<ModuleMemberDeclarationNode> moduleMembers = newRoot.members();
+        for (ModuleMemberDeclarationNode extensionModuleMember : extensionRoot.members()) {
+            if (!isListenerClassNode(extensionModuleMember)) {
+                moduleMembers = moduleMembers.add(extensionModuleMember);
+            }
+        }
+        NodeList<ImportDeclarationNode> imports = newRoot.imports();
+        for (ImportDeclarationNode extensionImport : extensionRoot.imports()) {
+            boolean imported = false;
+            for (ImportDeclarationNode existingImport : imports) {
+                imported = imported || existingImport.toSourceCode().trim()
+                        .equals(extensionImport.toSourceCode().trim());
+            }
+            if (!imported) {
+                imports = imports.add(extensionImport);
+            }
+        }
+        return newRoot.modify().withImports(imports).withMembers(moduleMembers).apply();
+    }
+
+    private int getMethodIndex(NodeList<Node> members, Node member) {
+        if (member.kind() != SyntaxKind.OBJECT_METHOD_DEFINITION) {
+            return -1;
+        }
+        String functionName = ((FunctionDefinitionNode) member).functionName().text();
+        for (int i = 0; i < members.size(); i++) {
+            if (members.get(i).kind() == SyntaxKind.OBJECT_METHOD_DEFINITION
+                    && ((FunctionDefinitionNode) members.get(i)).functionName().text().equals(functionName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private ClassDefinitionNode getListenerClassNode(ModulePartNode root) {
+        for (ModuleMemberDeclarationNode node : root.members()) {
+            if (isListenerClassNode(node)) {
+                return (ClassDefinitionNode) node;
+            }
+        }
+        return null;
+    }
+
+    private boolean isListenerClassNode(ModuleMemberDeclarationNode node) {
+        return node.kind() == SyntaxKind.CLASS_DEFINITION && ((ClassDefinitionNode) node).className().text()
+                .equals(Constants.LISTENER_CLASS_NAME);
+    }
+
     private FunctionDefinitionNode getServiceTypeStrFuncNode(ModulePartNode oldRoot) {
         for (ModuleMemberDeclarationNode node: oldRoot.members()) {
             if (node.kind() == SyntaxKind.CLASS_DEFINITION) {
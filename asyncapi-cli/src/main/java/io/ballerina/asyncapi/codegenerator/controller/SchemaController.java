@@ -19,11 +19,16 @@
 package io.ballerina.asyncapi.codegenerator.controller;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.CodegenOptions;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.entity.RemoteFunction;
 import io.ballerina.asyncapi.codegenerator.entity.Schema;
+import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
 import io.ballerina.asyncapi.codegenerator.usecase.GenerateModuleMemberDeclarationNode;
 import io.ballerina.asyncapi.codegenerator.usecase.GenerateUnionDescriptorNode;
 import io.ballerina.asyncapi.codegenerator.usecase.Generator;
+import io.ballerina.asyncapi.codegenerator.usecase.utils.CodegenUtils;
+import io.ballerina.asyncapi.codegenerator.usecase.utils.SchemaStructureUtils;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
@@ -35,8 +40,11 @@ import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
@@ -46,17 +54,35 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameRefe
  */
 public class SchemaController implements BalController {
     private final Map<String, Schema> schemas;
+    private final List<ServiceType> serviceTypes;
+    private final CodegenOptions options;
+    private final CodegenUtils codegenUtils = new CodegenUtils();
 
     public SchemaController(Map<String, Schema> schemas) {
+        this(schemas, new ArrayList<>(), new CodegenOptions());
+    }
+
+    /**
+     * Constructor override, which also generates a union of the event types for each of the given service types.
+     *
+     * @param schemas      schemas to generate the types for
+     * @param serviceTypes service types to generate the unions of the event types for
+     * @param options      options which control the generated types
+     */
+    public SchemaController(Map<String, Schema> schemas, List<ServiceType> serviceTypes, CodegenOptions options) {
         this.schemas = schemas;
+        this.serviceTypes = serviceTypes;
+        this.options = options;
     }
 
     @Override
     public String generateBalCode(String balTemplate) throws BallerinaAsyncApiException {
         List<ModuleMemberDeclarationNode> recordNodes = new ArrayList<>();
         List<TypeDescriptorNode> typeDescriptorNodes = new ArrayList<>();
+        Map<String, String> typeNamesByStructure = getRecordTypeNamesByStructure();
         for (Map.Entry<String, Schema> fields : schemas.entrySet()) {
-            Generator generateRecordNode = new GenerateModuleMemberDeclarationNode(fields);
+            Generator generateRecordNode = new GenerateModuleMemberDeclarationNode(fields, schemas,
+                    typeNamesByStructure, options);
             ModuleMemberDeclarationNode typeDefinitionNode = generateRecordNode.generate();
             if (typeDefinitionNode instanceof TypeDefinitionNode) {
                 typeDescriptorNodes.add(
@@ -68,6 +94,7 @@ public class SchemaController implements BalController {
 
         Generator generateUnionNode = new GenerateUnionDescriptorNode(typeDescriptorNodes, Constants.GENERIC_DATA_TYPE);
         recordNodes.add(generateUnionNode.generate());
+        recordNodes.addAll(generateServiceDataTypes());
 
         TextDocument textDocument = TextDocuments.from(balTemplate);
         SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
@@ -82,4 +109,43 @@ public class SchemaController implements BalController {
                     "may be a syntax issue in the generated code", e);
         }
     }
+
+    /**
+     * Generate a union of the event types of each service type. The dispatcher converts an event into the union of
+     * its service type, which has only the types of that channel, instead of the union of all the types.
+     */
+    private List<ModuleMemberDeclarationNode> generateServiceDataTypes() throws BallerinaAsyncApiException {
+        List<ModuleMemberDeclarationNode> unionNodes = new ArrayList<>();
+        for (ServiceType serviceType : serviceTypes) {
+            Set<String> eventTypes = new LinkedHashSet<>();
+            for (RemoteFunction remoteFunction : serviceType.getRemoteFunctions()) {
+                eventTypes.add(codegenUtils.getValidName(
+                        codegenUtils.escapeIdentifier(remoteFunction.getEventType().trim()), true));
+            }
+            List<TypeDescriptorNode> eventTypeNodes = new ArrayList<>();
+            for (String eventType : eventTypes) {
+                eventTypeNodes.add(createSimpleNameReferenceNode(createIdentifierToken(eventType)));
+            }
+            Generator generateUnionNode = new GenerateUnionDescriptorNode(eventTypeNodes,
+                    codegenUtils.getDataTypeNameByServiceName(serviceType.getServiceTypeName()));
+            unionNodes.add(generateUnionNode.generate());
+        }
+        return unionNodes;
+    }
+
+    /**
+     * Get the names of the record types by their structure keys, so that an inline object with the same structure
+     * as a record type is generated as a reference to that type. The first type defined with a structure is kept.
+     */
+    private Map<String, String> getRecordTypeNamesByStructure() {
+        SchemaStructureUtils schemaStructureUtils = new SchemaStructureUtils();
+        Map<String, String> typeNamesByStructure = new HashMap<>();
+        for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
+            if (schema.getValue().getSchemaProperties() != null) {
+                typeNamesByStructure.putIfAbsent(schemaStructureUtils.getStructureKey(schema.getValue()),
+                        schema.getKey());
+            }
+        }
+        return typeNamesByStructure;
+    }
 }
@@ -19,6 +19,7 @@
 package io.ballerina.asyncapi.codegenerator.controller;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.CodegenOptions;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
 import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
 import io.ballerina.asyncapi.codegenerator.usecase.GenerateServiceTypeNode;
@@ -45,9 +46,15 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameRefe
  */
 public class ServiceTypesController implements BalController {
     private final List<ServiceType> serviceTypes;
+    private final CodegenOptions options;
 
     public ServiceTypesController(List<ServiceType> serviceTypes) {
+        this(serviceTypes, new CodegenOptions());
+    }
+
+    public ServiceTypesController(List<ServiceType> serviceTypes, CodegenOptions options) {
         this.serviceTypes = serviceTypes;
+        this.options = options;
     }
 
     @Override
@@ -56,7 +63,8 @@ public class ServiceTypesController implements BalController {
         List<TypeDescriptorNode> serviceTypeNodes = new ArrayList<>();
         for (ServiceType service : serviceTypes) {
             Generator generateServiceTypeNode =
-                    new GenerateServiceTypeNode(service.getServiceTypeName(), service.getRemoteFunctions());
+                    new GenerateServiceTypeNode(service.getServiceTypeName(), service.getRemoteFunctions(),
+                            options.isReadonlyTypes());
             TypeDefinitionNode typeDefinitionNode = generateServiceTypeNode.generate();
             serviceTypeNodes.add(
                     createSimpleNameReferenceNode(createIdentifierToken(typeDefinitionNode.typeName().text())));
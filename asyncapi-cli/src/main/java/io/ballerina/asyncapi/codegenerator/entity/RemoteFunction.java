@@ -24,6 +24,8 @@ package io.ballerina.asyncapi.codegenerator.entity;
 public class RemoteFunction {
     private final String funcName;
     private final String eventType;
+    private String partitionKeyPath;
+    private String priority;
 
     public RemoteFunction(String funcName, String eventType) {
         this.funcName = funcName;
@@ -37,4 +39,31 @@ public class RemoteFunction {
     public String getEventType() {
         return eventType;
     }
+
+    /**
+     * Get the path of the field in the event payload, which holds the key of the entity the event belongs to. The
+     * events with the same key are processed in the order they are received.
+     *
+     * @return path of the partition key, or null if the events can be processed in any order
+     */
+    public String getPartitionKeyPath() {
+        return partitionKeyPath;
+    }
+
+    public void setPartitionKeyPath(String partitionKeyPath) {
+        this.partitionKeyPath = partitionKeyPath;
+    }
+
+    /**
+     * Get the priority class of the event, which decides how soon the event is processed when the listener is busy.
+     *
+     * @return high or low, or null if the event has the normal priority
+     */
+    public String getPriority() {
+        return priority;
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+    }
 }
@@ -20,6 +20,7 @@ package io.ballerina.asyncapi.codegenerator.entity;
 
 import io.apicurio.datamodels.asyncapi.models.AaiSchema;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -267,21 +268,33 @@ public class SchemaDecorator implements Schema {
 
     @Override
     public List<Schema> getAllOf() {
+        if (aaiSchema.allOf == null) {
+            return null;
+        }
         return aaiSchema.allOf.stream().map(SchemaDecorator::new).collect(Collectors.toList());
     }
 
     @Override
     public List<Schema> getOneOf() {
+        if (aaiSchema.oneOf == null) {
+            return null;
+        }
         return aaiSchema.oneOf.stream().map(SchemaDecorator::new).collect(Collectors.toList());
     }
 
     @Override
     public List<Schema> getAnyOf() {
+        if (aaiSchema.anyOf == null) {
+            return null;
+        }
         return aaiSchema.anyOf.stream().map(SchemaDecorator::new).collect(Collectors.toList());
     }
 
     @Override
     public Schema getNot() {
+        if (aaiSchema.not == null) {
+            return null;
+        }
         return new SchemaDecorator(aaiSchema.not);
     }
 
@@ -290,12 +303,16 @@ public class SchemaDecorator implements Schema {
         if (aaiSchema.properties == null) {
             return null;
         }
-        return aaiSchema.properties.entrySet()
-                .stream().collect(Collectors.toMap(Map.Entry::getKey, e -> new SchemaDecorator(e.getValue())));
+        Map<String, Schema> properties = new LinkedHashMap<>();
+        aaiSchema.properties.forEach((name, property) -> properties.put(name, new SchemaDecorator(property)));
+        return properties;
     }
 
     @Override
     public Object getAdditionalProperties() {
+        if (aaiSchema.additionalProperties instanceof AaiSchema) {
+            return new SchemaDecorator((AaiSchema) aaiSchema.additionalProperties);
+        }
         return aaiSchema.additionalProperties;
     }
 
@@ -368,4 +385,18 @@ public class SchemaDecorator implements Schema {
     public Object getExtraProperty(String name) {
         return aaiSchema.getExtraProperty(name);
     }
+
+    /**
+     * Two decorators are equal when they wrap the same schema object, so that a schema can be tracked in sets
+     * even though a new decorator is created on every access.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SchemaDecorator && ((SchemaDecorator) other).aaiSchema == aaiSchema;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(aaiSchema);
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.asyncapi.codegenerator.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Cache of the documents referred by the relative $ref attributes of an AsyncAPI spec, read through the
+ * FileRepository. The documents are keyed by their canonical path, so that each file is read and parsed only once
+ * in a code generation run, however many times and through whichever relative path it is referred.
+ */
+public class SpecDocumentCache {
+    private final FileRepository fileRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Path, JsonNode> documents = new ConcurrentHashMap<>();
+
+    public SpecDocumentCache(FileRepository fileRepository) {
+        this.fileRepository = fileRepository;
+    }
+
+    /**
+     * Get the canonical path of a file referred relative to the given directory.
+     *
+     * @param baseDirectory directory of the document which contains the reference
+     * @param relativePath  path of the referred file, as given in the reference
+     * @return canonical path of the referred file
+     * @throws BallerinaAsyncApiException if the path cannot be resolved in the file system
+     */
+    public Path getCanonicalPath(Path baseDirectory, String relativePath) throws BallerinaAsyncApiException {
+        try {
+            return baseDirectory.resolve(relativePath).toFile().getCanonicalFile().toPath();
+        } catch (IOException e) {
+            throw new BallerinaAsyncApiException("Could not resolve the referenced file: ".concat(relativePath), e);
+        }
+    }
+
+    /**
+     * Get a parsed document, reading it if it is not cached yet.
+     *
+     * @param canonicalPath canonical path of the document
+     * @return the parsed document
+     * @throws BallerinaAsyncApiException if the document cannot be read or parsed
+     */
+    public JsonNode getDocument(Path canonicalPath) throws BallerinaAsyncApiException {
+        JsonNode document = documents.get(canonicalPath);
+        if (document == null) {
+            document = readDocument(canonicalPath);
+            documents.put(canonicalPath, document);
+        }
+        return document;
+    }
+
+    /**
+     * Read the given documents which are not cached yet. The documents do not depend on each other, so they are
+     * read and parsed in parallel.
+     *
+     * @param canonicalPaths canonical paths of the documents
+     * @throws BallerinaAsyncApiException if any of the documents cannot be read or parsed
+     */
+    public void loadDocuments(Collection<Path> canonicalPaths) throws BallerinaAsyncApiException {
+        List<Path> pendingPaths = new ArrayList<>();
+        for (Path canonicalPath : canonicalPaths) {
+            if (!documents.containsKey(canonicalPath)) {
+                pendingPaths.add(canonicalPath);
+            }
+        }
+        if (pendingPaths.size() <= 1) {
+            for (Path pendingPath : pendingPaths) {
+                getDocument(pendingPath);
+            }
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(pendingPaths.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            List<Future<JsonNode>> futures = new ArrayList<>();
+            for (Path pendingPath : pendingPaths) {
+                futures.add(executor.submit(() -> readDocument(pendingPath)));
+            }
+            for (int i = 0; i < pendingPaths.size(); i++) {
+                documents.put(pendingPaths.get(i), futures.get(i).get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BallerinaAsyncApiException("Interrupted while reading the referenced files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BallerinaAsyncApiException) {
+                throw (BallerinaAsyncApiException) e.getCause();
+            }
+            throw new BallerinaAsyncApiException("Could not read the referenced files", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private JsonNode readDocument(Path canonicalPath) throws BallerinaAsyncApiException {
+        String filePath = canonicalPath.toString();
+        String content = fileRepository.getFileContent(filePath);
+        String json;
+        if (filePath.endsWith(".json")) {
+            json = content;
+        } else if (filePath.endsWith("yaml") || filePath.endsWith("yml")) {
+            json = fileRepository.convertYamlToJson(content);
+        } else {
+            throw new BallerinaAsyncApiException("Unknown file type: ".concat(filePath));
+        }
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new BallerinaAsyncApiException("Error parsing the json, please validate the json file: "
+                    .concat(filePath), e);
+        }
+    }
+}
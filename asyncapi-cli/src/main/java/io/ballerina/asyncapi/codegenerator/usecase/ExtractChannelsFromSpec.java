@@ -35,11 +35,17 @@ import io.ballerina.asyncapi.codegenerator.entity.Schema;
 import io.ballerina.asyncapi.codegenerator.entity.SchemaDecorator;
 import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
 import io.ballerina.asyncapi.codegenerator.usecase.utils.CodegenUtils;
+import io.ballerina.asyncapi.codegenerator.usecase.utils.SchemaStructureUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Extract the service types from the AsyncAPI specification.
@@ -47,17 +53,41 @@ import java.util.Map;
 public class ExtractChannelsFromSpec implements Extractor {
     private final AaiDocument asyncApiSpec;
     private final CodegenUtils codegenUtils = new CodegenUtils();
+    private final SchemaStructureUtils schemaStructureUtils = new SchemaStructureUtils();
+    private final Set<String> selectedChannels;
+    private final Set<String> selectedEvents;
     private Map<String, Schema> inlineSchemas;
+    // Names of the already known types by their structure keys, the first type defined with a structure is kept
+    private Map<String, String> typeNamesByStructure;
 
     public ExtractChannelsFromSpec(AaiDocument asyncApiSpec) {
+        this(asyncApiSpec, Collections.emptySet(), Collections.emptySet());
+    }
+
+    /**
+     * Constructor override, which extracts only the given channels and events.
+     *
+     * @param asyncApiSpec     AsyncAPI specification
+     * @param selectedChannels names of the channels to extract, or an empty set to extract all the channels
+     * @param selectedEvents   x-ballerina-event-type values of the messages to extract, or an empty set to extract
+     *                         all the messages
+     */
+    public ExtractChannelsFromSpec(AaiDocument asyncApiSpec, Set<String> selectedChannels,
+                                   Set<String> selectedEvents) {
         this.asyncApiSpec = asyncApiSpec;
-        this.inlineSchemas = new HashMap<>();
+        this.selectedChannels = selectedChannels;
+        this.selectedEvents = selectedEvents;
+        this.inlineSchemas = new LinkedHashMap<>();
     }
 
     @Override
     public MultiChannel extract() throws BallerinaAsyncApiException {
+        validateSelection();
         List<ServiceType> serviceTypes = new ArrayList<>();
         for (Map.Entry<String, AaiChannelItem> channel : asyncApiSpec.channels.entrySet()) {
+            if (!selectedChannels.isEmpty() && !selectedChannels.contains(channel.getKey())) {
+                continue;
+            }
             String serviceTypeName;
             List<RemoteFunction> remoteFunctions = new ArrayList<>();
             if (channel.getValue().getExtension(Constants.X_BALLERINA_SERVICE_TYPE) == null) {
@@ -72,32 +102,83 @@ public class ExtractChannelsFromSpec implements Extractor {
                     validateMessage(channel, message);
                     String xBallerinaEventType =
                             message.getExtension(Constants.X_BALLERINA_EVENT_TYPE).value.toString();
-                    RemoteFunction remoteFunction = new RemoteFunction(
-                            xBallerinaEventType,
+                    if (!isSelectedEvent(xBallerinaEventType)) {
+                        continue;
+                    }
+                    RemoteFunction remoteFunction = new RemoteFunction(xBallerinaEventType,
                             getEventType(message, channel.getKey(), xBallerinaEventType));
+                    remoteFunction.setPartitionKeyPath(getPartitionKeyPath(message, xBallerinaEventType));
+                    remoteFunction.setPriority(getPriority(message, xBallerinaEventType));
                     remoteFunctions.add(remoteFunction);
                 }
             } else {
                 validateMessage(channel, mainMessage);
                 String xBallerinaEventType = channel.getValue()
                         .subscribe.message.getExtension(Constants.X_BALLERINA_EVENT_TYPE).value.toString();
-                RemoteFunction remoteFunction = new RemoteFunction(xBallerinaEventType,
-                        getEventType(mainMessage, channel.getKey(), xBallerinaEventType));
-                remoteFunctions.add(remoteFunction);
+                if (isSelectedEvent(xBallerinaEventType)) {
+                    RemoteFunction remoteFunction = new RemoteFunction(xBallerinaEventType,
+                            getEventType(mainMessage, channel.getKey(), xBallerinaEventType));
+                    remoteFunction.setPartitionKeyPath(getPartitionKeyPath(mainMessage, xBallerinaEventType));
+                    remoteFunction.setPriority(getPriority(mainMessage, xBallerinaEventType));
+                    remoteFunctions.add(remoteFunction);
+                }
+            }
+            if (remoteFunctions.isEmpty()) {
+                continue;
             }
             ServiceType serviceType = new ServiceType(serviceTypeName, remoteFunctions);
             serviceTypes.add(serviceType);
         }
+        if (serviceTypes.isEmpty() && !(selectedChannels.isEmpty() && selectedEvents.isEmpty())) {
+            throw new BallerinaAsyncApiException("None of the selected channels has any of the selected events");
+        }
         return new MultiChannel(serviceTypes, inlineSchemas);
     }
 
+    private boolean isSelectedEvent(String xBallerinaEventType) {
+        return selectedEvents.isEmpty() || selectedEvents.contains(xBallerinaEventType);
+    }
+
+    /**
+     * Report the selected channels and events which are not in the spec, which are most likely misspelled.
+     */
+    private void validateSelection() throws BallerinaAsyncApiException {
+        Set<String> unknownChannels = new TreeSet<>(selectedChannels);
+        unknownChannels.removeAll(asyncApiSpec.channels.keySet());
+        if (!unknownChannels.isEmpty()) {
+            throw new BallerinaAsyncApiException("Could not find the selected channels in the AsyncAPI " +
+                    "specification: ".concat(String.join(", ", unknownChannels)));
+        }
+        Set<String> unknownEvents = new TreeSet<>(selectedEvents);
+        for (AaiChannelItem channel : asyncApiSpec.channels.values()) {
+            if (channel.subscribe == null || channel.subscribe.message == null) {
+                continue;
+            }
+            List<AaiMessage> messages = channel.subscribe.message.oneOf != null
+                    ? channel.subscribe.message.oneOf : List.of(channel.subscribe.message);
+            for (AaiMessage message : messages) {
+                if (message.getExtension(Constants.X_BALLERINA_EVENT_TYPE) != null) {
+                    unknownEvents.remove(message.getExtension(Constants.X_BALLERINA_EVENT_TYPE).value.toString());
+                }
+            }
+        }
+        if (!unknownEvents.isEmpty()) {
+            throw new BallerinaAsyncApiException("Could not find the selected events in the AsyncAPI " +
+                    "specification: ".concat(String.join(", ", unknownEvents)));
+        }
+    }
+
     private String getEventType(AaiMessage message, String channelName, String xBallerinaEventType)
             throws BallerinaAsyncApiException {
         if (!JsonCompat.isPropertyDefined(message.payload, "$ref")) {
-            DataModelReader reader = VisitorFactory.createDataModelReader(DocumentType.asyncapi2);
-            AaiSchema schemaModel = (new Aai20NodeFactory()).createSchemaDefinition(null, xBallerinaEventType);
-            reader.readSchema(message.payload, schemaModel);
-            inlineSchemas.put(xBallerinaEventType, new SchemaDecorator(schemaModel));
+            Schema inlineSchema = readInlineSchema(message, xBallerinaEventType);
+            String structureKey = schemaStructureUtils.getStructureKey(inlineSchema);
+            String existingTypeName = getTypeNamesByStructure().get(structureKey);
+            if (existingTypeName != null) {
+                return existingTypeName;
+            }
+            typeNamesByStructure.put(structureKey, xBallerinaEventType);
+            inlineSchemas.put(xBallerinaEventType, inlineSchema);
             return xBallerinaEventType;
             //TODO: handle the scenario with both $ref is there directly under the properties
         }
@@ -112,6 +193,69 @@ public class ExtractChannelsFromSpec implements Extractor {
         return schemaName;
     }
 
+    private Schema readInlineSchema(AaiMessage message, String xBallerinaEventType) {
+        DataModelReader reader = VisitorFactory.createDataModelReader(DocumentType.asyncapi2);
+        AaiSchema schemaModel = (new Aai20NodeFactory()).createSchemaDefinition(null, xBallerinaEventType);
+        reader.readSchema(message.payload, schemaModel);
+        return new SchemaDecorator(schemaModel);
+    }
+
+    /**
+     * Get the names of the schemas defined under the components by their structure keys. An inline payload with
+     * the same structure as an already known type reuses that type, instead of generating an identical one.
+     */
+    private Map<String, String> getTypeNamesByStructure() {
+        if (typeNamesByStructure == null) {
+            typeNamesByStructure = new HashMap<>();
+            if (asyncApiSpec.components != null && asyncApiSpec.components.schemas != null) {
+                asyncApiSpec.components.schemas.forEach((name, schema) -> typeNamesByStructure.putIfAbsent(
+                        schemaStructureUtils.getStructureKey(new SchemaDecorator(schema)), name));
+            }
+        }
+        return typeNamesByStructure;
+    }
+
+    /**
+     * Get the Ballerina field access path of the partition key of a message, e.g. event.'type for the path
+     * event.type, so that it can be read from the JSON payload.
+     */
+    private String getPartitionKeyPath(AaiMessage message, String xBallerinaEventType)
+            throws BallerinaAsyncApiException {
+        if (message.getExtension(Constants.X_BALLERINA_PARTITION_KEY) == null) {
+            return null;
+        }
+        Object partitionKey = message.getExtension(Constants.X_BALLERINA_PARTITION_KEY).value;
+        if (!(partitionKey instanceof String) || ((String) partitionKey).isBlank()) {
+            throw new BallerinaAsyncApiException("The " + Constants.X_BALLERINA_PARTITION_KEY + " attribute of the "
+                    + "message " + xBallerinaEventType + " should be the path of a field in the payload");
+        }
+        List<String> pathParts = new ArrayList<>();
+        for (String pathPart : ((String) partitionKey).trim().split("\\.", -1)) {
+            // The path is added to the generated code as it is, so each part has to be a field name
+            String fieldName = pathPart.isEmpty() ? pathPart : codegenUtils.escapeIdentifier(pathPart);
+            if (!fieldName.matches(Constants.BAL_IDENTIFIER_PATTERN)) {
+                throw new BallerinaAsyncApiException("The " + Constants.X_BALLERINA_PARTITION_KEY + " attribute of "
+                        + "the message " + xBallerinaEventType + " has an invalid field name '" + pathPart
+                        + "', the field names of the path should be separated by '.'");
+            }
+            pathParts.add(fieldName);
+        }
+        return String.join(".", pathParts);
+    }
+
+    private String getPriority(AaiMessage message, String xBallerinaEventType) throws BallerinaAsyncApiException {
+        if (message.getExtension(Constants.X_BALLERINA_PRIORITY) == null) {
+            return null;
+        }
+        String priority = String.valueOf(message.getExtension(Constants.X_BALLERINA_PRIORITY).value).trim()
+                .toLowerCase(Locale.ENGLISH);
+        if (!Constants.PRIORITIES.contains(priority)) {
+            throw new BallerinaAsyncApiException("The " + Constants.X_BALLERINA_PRIORITY + " attribute of the message "
+                    + xBallerinaEventType + " should be one of " + String.join(", ", Constants.PRIORITIES));
+        }
+        return priority.equals(Constants.PRIORITY_NORMAL) ? null : priority;
+    }
+
     private void validateMessage(Map.Entry<String, AaiChannelItem> channel, AaiMessage message)
             throws BallerinaAsyncApiException {
         if (message.getExtension(Constants.X_BALLERINA_EVENT_TYPE) == null) {
@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.entity.Schema;
+import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+import io.ballerina.asyncapi.codegenerator.usecase.utils.CodegenUtils;
+import io.ballerina.asyncapi.codegenerator.usecase.utils.SchemaStructureUtils;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Extract the object schemas nested inside the properties of the other schemas as named schemas, so that a record
+ * type is generated for each of them instead of repeating them inline. The name of a nested schema is the name of
+ * its parent followed by the property name, e.g. the property billing_address of Customer is named
+ * CustomerBillingAddress. A nested schema with the same structure as an already named schema is not extracted,
+ * as the generated code refers the named type for it.
+ */
+public class ExtractNestedSchemas implements Extractor {
+    private static final String ARRAY_ITEM_SUFFIX = "Item";
+    private final Map<String, Schema> schemas;
+    private final List<ServiceType> serviceTypes;
+    private final CodegenUtils codegenUtils = new CodegenUtils();
+    private final SchemaStructureUtils schemaStructureUtils = new SchemaStructureUtils();
+    private final Map<String, String> typeNamesByStructure = new HashMap<>();
+    private final Set<String> usedTypeNames = new HashSet<>();
+
+    public ExtractNestedSchemas(Map<String, Schema> schemas, List<ServiceType> serviceTypes) {
+        this.schemas = schemas;
+        this.serviceTypes = serviceTypes;
+    }
+
+    @Override
+    public Map<String, Schema> extract() throws BallerinaAsyncApiException {
+        usedTypeNames.add(Constants.GENERIC_DATA_TYPE);
+        for (ServiceType serviceType : serviceTypes) {
+            usedTypeNames.add(codegenUtils.getServiceTypeNameByServiceName(serviceType.getServiceTypeName()));
+            usedTypeNames.add(codegenUtils.getDataTypeNameByServiceName(serviceType.getServiceTypeName()));
+        }
+        for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
+            usedTypeNames.add(codegenUtils.getValidName(codegenUtils.escapeIdentifier(schema.getKey().trim()), true));
+            if (schema.getValue().getSchemaProperties() != null) {
+                typeNamesByStructure.putIfAbsent(schemaStructureUtils.getStructureKey(schema.getValue()),
+                        schema.getKey());
+            }
+        }
+
+        // Keep the nested schemas right after the schema they are nested in, so that the order stays stable
+        Map<String, Schema> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
+            result.put(schema.getKey(), schema.getValue());
+            Set<Schema> schemasInPath = new HashSet<>();
+            schemasInPath.add(schema.getValue());
+            extractFromProperties(getTypeName(schema.getKey()), schema.getValue(), schemasInPath, result);
+        }
+        return result;
+    }
+
+    private void extractFromProperties(String parentName, Schema parent, Set<Schema> schemasInPath,
+                                       Map<String, Schema> result) {
+        if (parent.getSchemaProperties() == null) {
+            return;
+        }
+        for (Map.Entry<String, Schema> property : parent.getSchemaProperties().entrySet()) {
+            String name = parentName + getTypeName(property.getKey());
+            Schema propertySchema = property.getValue();
+            if (Constants.ARRAY.equals(propertySchema.getType()) && propertySchema.getItems() instanceof Schema) {
+                // The item objects of an array property are named after the property, e.g. CustomerAddressesItem
+                propertySchema = (Schema) propertySchema.getItems();
+                name = name + ARRAY_ITEM_SUFFIX;
+            }
+            extractSchema(name, propertySchema, schemasInPath, result);
+        }
+    }
+
+    private void extractSchema(String name, Schema schema, Set<Schema> schemasInPath, Map<String, Schema> result) {
+        // A reference is already generated as a type name, and a schema in the path contains itself, which is
+        // generated as a reference to its own type
+        if (schema.getRef() != null || schema.getSchemaProperties() == null || !schemasInPath.add(schema)) {
+            return;
+        }
+        try {
+            String structureKey = schemaStructureUtils.getStructureKey(schema);
+            String typeName = typeNamesByStructure.get(structureKey);
+            if (typeName == null) {
+                typeName = getUniqueTypeName(name);
+                typeNamesByStructure.put(structureKey, typeName);
+                result.put(typeName, schema);
+                extractFromProperties(typeName, schema, schemasInPath, result);
+            }
+        } finally {
+            schemasInPath.remove(schema);
+        }
+    }
+
+    /**
+     * Get a name which is not used by any other type, adding a number to the end of the name if needed.
+     */
+    private String getUniqueTypeName(String name) {
+        String uniqueName = name;
+        for (int i = 2; !usedTypeNames.add(uniqueName); i++) {
+            uniqueName = name + i;
+        }
+        return uniqueName;
+    }
+
+    private String getTypeName(String name) {
+        return codegenUtils.getValidName(name.trim(), true);
+    }
+}
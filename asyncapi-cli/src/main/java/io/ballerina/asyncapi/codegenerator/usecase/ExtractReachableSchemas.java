@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.entity.RemoteFunction;
+import io.ballerina.asyncapi.codegenerator.entity.Schema;
+import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Extract the schemas which are reachable from the payloads of the channel messages, following the references
+ * between the schemas. The other schemas are not used by any event, so no types are generated for them.
+ */
+public class ExtractReachableSchemas implements Extractor {
+    private final Map<String, Schema> schemas;
+    private final List<ServiceType> serviceTypes;
+
+    public ExtractReachableSchemas(Map<String, Schema> schemas, List<ServiceType> serviceTypes) {
+        this.schemas = schemas;
+        this.serviceTypes = serviceTypes;
+    }
+
+    @Override
+    public Map<String, Schema> extract() throws BallerinaAsyncApiException {
+        Deque<String> pendingSchemas = new ArrayDeque<>();
+        for (ServiceType serviceType : serviceTypes) {
+            for (RemoteFunction remoteFunction : serviceType.getRemoteFunctions()) {
+                pendingSchemas.add(remoteFunction.getEventType());
+            }
+        }
+
+        Set<String> reachableSchemas = new HashSet<>();
+        while (!pendingSchemas.isEmpty()) {
+            String schemaName = pendingSchemas.pop();
+            if (schemas.containsKey(schemaName) && reachableSchemas.add(schemaName)) {
+                collectReferences(schemas.get(schemaName), pendingSchemas, new HashSet<>());
+            }
+        }
+
+        // Keep the order of the given schemas, so that the generated types are in the same order
+        Map<String, Schema> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
+            if (reachableSchemas.contains(schema.getKey())) {
+                result.put(schema.getKey(), schema.getValue());
+            }
+        }
+        return result;
+    }
+
+    private void collectReferences(Schema schema, Deque<String> pendingSchemas, Set<Schema> visitedSchemas) {
+        if (schema == null || !visitedSchemas.add(schema)) {
+            return;
+        }
+        if (schema.getRef() != null) {
+            String[] refParts = schema.getRef().split("/");
+            pendingSchemas.add(refParts[refParts.length - 1]);
+        }
+        if (schema.getSchemaProperties() != null) {
+            for (Schema property : schema.getSchemaProperties().values()) {
+                collectReferences(property, pendingSchemas, visitedSchemas);
+            }
+        }
+        if (schema.getItems() instanceof Schema) {
+            collectReferences((Schema) schema.getItems(), pendingSchemas, visitedSchemas);
+        } else if (schema.getItems() instanceof List) {
+            for (Object item : (List<?>) schema.getItems()) {
+                collectReferences((Schema) item, pendingSchemas, visitedSchemas);
+            }
+        }
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            collectReferences((Schema) schema.getAdditionalProperties(), pendingSchemas, visitedSchemas);
+        }
+        collectReferences(schema.getAllOf(), pendingSchemas, visitedSchemas);
+        collectReferences(schema.getOneOf(), pendingSchemas, visitedSchemas);
+        collectReferences(schema.getAnyOf(), pendingSchemas, visitedSchemas);
+        collectReferences(schema.getNot(), pendingSchemas, visitedSchemas);
+    }
+
+    private void collectReferences(List<Schema> schemaList, Deque<String> pendingSchemas, Set<Schema> visitedSchemas) {
+        if (schemaList != null) {
+            for (Schema schema : schemaList) {
+                collectReferences(schema, pendingSchemas, visitedSchemas);
+            }
+        }
+    }
+}
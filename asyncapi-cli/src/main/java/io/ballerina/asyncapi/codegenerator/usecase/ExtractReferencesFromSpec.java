@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Extract the values of all the $ref attributes from the AsyncAPI specification, without resolving them.
+ */
+public class ExtractReferencesFromSpec implements Extractor {
+    private final JsonNode asyncApiSpec;
+
+    public ExtractReferencesFromSpec(JsonNode asyncApiSpec) {
+        this.asyncApiSpec = asyncApiSpec;
+    }
+
+    @Override
+    public Set<String> extract() throws BallerinaAsyncApiException {
+        Set<String> references = new LinkedHashSet<>();
+        collectReferences(asyncApiSpec, references);
+        return references;
+    }
+
+    private void collectReferences(JsonNode node, Set<String> references) {
+        if (node.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (field.getKey().equals("$ref") && field.getValue().isTextual()) {
+                    references.add(field.getValue().asText());
+                } else {
+                    collectReferences(field.getValue(), references);
+                }
+            }
+        } else if (node.isArray()) {
+            for (JsonNode item : node) {
+                collectReferences(item, references);
+            }
+        }
+    }
+}
@@ -23,14 +23,19 @@ import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiExcept
 import io.ballerina.asyncapi.codegenerator.entity.Schema;
 import io.ballerina.asyncapi.codegenerator.entity.SchemaDecorator;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * Extract the schemas from the AsyncAPI specification.
  */
 public class ExtractSchemasFromSpec implements Extractor {
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
     private final AaiDocument asyncApiSpec;
 
     public ExtractSchemasFromSpec(AaiDocument asyncApiSpec) {
@@ -41,9 +46,45 @@ public class ExtractSchemasFromSpec implements Extractor {
     public Map<String, Schema> extract() throws BallerinaAsyncApiException {
         if (asyncApiSpec.components != null && asyncApiSpec.components.schemas != null
                 && !asyncApiSpec.components.schemas.entrySet().isEmpty()) {
-            return asyncApiSpec.components.schemas.entrySet()
-                    .stream().collect(Collectors.toMap(Map.Entry::getKey, e -> new SchemaDecorator(e.getValue())));
+            // Keep the order of the spec, so that the generated code does not change between the runs
+            Map<String, Schema> schemas = new LinkedHashMap<>();
+            asyncApiSpec.components.schemas.forEach((name, schema) -> schemas.put(name, new SchemaDecorator(schema)));
+            checkForAliasCycles(schemas);
+            return schemas;
         }
-        return new HashMap<>();
+        return new LinkedHashMap<>();
+    }
+
+    /**
+     * Recursive schemas are generated as recursive type references, which Ballerina supports as long as the cycle
+     * goes through a record or an array. A cycle made only of schemas which are plain $ref aliases of each other
+     * does not define a type, so it is reported instead. Each schema is visited once.
+     */
+    private void checkForAliasCycles(Map<String, Schema> schemas) throws BallerinaAsyncApiException {
+        Set<String> checked = new HashSet<>();
+        for (String schemaName : schemas.keySet()) {
+            Set<String> aliasChain = new LinkedHashSet<>();
+            String current = schemaName;
+            while (current != null && !checked.contains(current)) {
+                if (aliasChain.contains(current)) {
+                    List<String> chain = new ArrayList<>(aliasChain);
+                    List<String> cycle = new ArrayList<>(chain.subList(chain.indexOf(current), chain.size()));
+                    cycle.add(current);
+                    throw new BallerinaAsyncApiException("Schemas reference each other without defining a type: "
+                            .concat(String.join(" -> ", cycle)));
+                }
+                aliasChain.add(current);
+                current = getAliasTarget(schemas.get(current));
+            }
+            checked.addAll(aliasChain);
+        }
+    }
+
+    private String getAliasTarget(Schema schema) {
+        if (schema == null || schema.getRef() == null || schema.getType() != null
+                || schema.getSchemaProperties() != null || !schema.getRef().startsWith(SCHEMA_REF_PREFIX)) {
+            return null;
+        }
+        return schema.getRef().substring(SCHEMA_REF_PREFIX.length());
     }
 }
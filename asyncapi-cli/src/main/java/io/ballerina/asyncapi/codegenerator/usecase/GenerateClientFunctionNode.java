@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.entity.RemoteFunction;
+import io.ballerina.asyncapi.codegenerator.usecase.utils.CodegenUtils;
+import io.ballerina.compiler.syntax.tree.BuiltinSimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.CheckExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionArgumentNode;
+import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.MethodCallExpressionNode;
+import io.ballerina.compiler.syntax.tree.OptionalTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createCheckExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createExpressionStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionBodyBlockNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionDefinitionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionSignatureNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMethodCallExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createOptionalTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createPositionalArgumentNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createRequiredParameterNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.ERROR_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.QUESTION_MARK_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.REMOTE_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.RETURNS_KEYWORD;
+
+/**
+ * Generate the remote function of the client.bal which sends a single type of event.
+ */
+public class GenerateClientFunctionNode implements Generator {
+    private final RemoteFunction remoteFunction;
+    private final CodegenUtils codegenUtils = new CodegenUtils();
+
+    public GenerateClientFunctionNode(RemoteFunction remoteFunction) {
+        this.remoteFunction = remoteFunction;
+    }
+
+    @Override
+    public FunctionDefinitionNode generate() throws BallerinaAsyncApiException {
+        String eventName = remoteFunction.getEventName();
+        if (eventName == null || eventName.trim().isEmpty()) {
+            throw new BallerinaAsyncApiException("Event name is empty in the event type "
+                    + remoteFunction.getEventType());
+        }
+
+        // {@code <EventType> event}
+        String eventType = codegenUtils.getValidName(
+                codegenUtils.escapeIdentifier(remoteFunction.getEventType().trim()), true);
+        BuiltinSimpleNameReferenceNode typeNode = createBuiltinSimpleNameReferenceNode(
+                null, createIdentifierToken(eventType));
+        OptionalTypeDescriptorNode returnType = createOptionalTypeDescriptorNode(createToken(ERROR_KEYWORD),
+                createToken(QUESTION_MARK_TOKEN));
+        ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
+                createToken(RETURNS_KEYWORD), createEmptyNodeList(), returnType);
+
+        // {@code check self.sendEvent(event, "<event_name>");}
+        SeparatedNodeList<FunctionArgumentNode> arguments = createSeparatedNodeList(
+                createPositionalArgumentNode(createSimpleNameReferenceNode(createIdentifierToken("event"))),
+                createToken(SyntaxKind.COMMA_TOKEN),
+                createPositionalArgumentNode(createSimpleNameReferenceNode(
+                        createIdentifierToken("\"" + eventName + "\""))));
+        MethodCallExpressionNode sendEventCall = createMethodCallExpressionNode(
+                createSimpleNameReferenceNode(createIdentifierToken(Constants.SELF_KEYWORD)),
+                createToken(SyntaxKind.DOT_TOKEN),
+                createSimpleNameReferenceNode(createIdentifierToken(Constants.CLIENT_SEND_EVENT_FUNCTION_NAME)),
+                createToken(OPEN_PAREN_TOKEN), arguments, createToken(CLOSE_PAREN_TOKEN));
+        CheckExpressionNode checkExpression = createCheckExpressionNode(SyntaxKind.CHECK_EXPRESSION,
+                createToken(SyntaxKind.CHECK_KEYWORD), sendEventCall);
+        FunctionBodyBlockNode functionBody = createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN), null,
+                createNodeList(createExpressionStatementNode(SyntaxKind.CALL_STATEMENT, checkExpression,
+                        createToken(SyntaxKind.SEMICOLON_TOKEN))),
+                createToken(CLOSE_BRACE_TOKEN), null);
+
+        return createFunctionDefinitionNode(SyntaxKind.OBJECT_METHOD_DEFINITION, null,
+                createNodeList(createToken(REMOTE_KEYWORD)), createToken(SyntaxKind.FUNCTION_KEYWORD),
+                createIdentifierToken(codegenUtils.getClientFunctionNameByEventName(eventName)),
+                createEmptyNodeList(),
+                createFunctionSignatureNode(createToken(OPEN_PAREN_TOKEN),
+                        createSeparatedNodeList(createRequiredParameterNode(createEmptyNodeList(), typeNode,
+                                createIdentifierToken("event"))),
+                        createToken(CLOSE_PAREN_TOKEN), returnTypeDescriptorNode),
+                functionBody);
+    }
+}
@@ -26,16 +26,21 @@ import io.ballerina.asyncapi.codegenerator.usecase.utils.CodegenUtils;
 import io.ballerina.compiler.syntax.tree.BlockStatementNode;
 import io.ballerina.compiler.syntax.tree.CheckExpressionNode;
 import io.ballerina.compiler.syntax.tree.FunctionArgumentNode;
+import io.ballerina.compiler.syntax.tree.IntersectionTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.MatchClauseNode;
 import io.ballerina.compiler.syntax.tree.MatchStatementNode;
 import io.ballerina.compiler.syntax.tree.MethodCallExpressionNode;
+import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyMinutiaeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createLiteralValueToken;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
@@ -43,13 +48,18 @@ import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSepara
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBasicLiteralNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBlockStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createCaptureBindingPatternNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createCheckExpressionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createExpressionStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createIntersectionTypeDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMatchClauseNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMatchStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMethodCallExpressionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createPositionalArgumentNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypedBindingPatternNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createVariableDeclarationNode;
 
 /**
  * Generate the match statement node for dispatcher_service.bal.
@@ -79,7 +89,12 @@ public class GenerateMatchStatementNode implements Generator {
             for (RemoteFunction remoteFunction : service.getRemoteFunctions()) {
                 String eventName = remoteFunction.getEventName();
                 String formattedEventName = codegenUtils.getFunctionNameByEventName(eventName);
-                MatchClauseNode matchClause = generateMatchClause(serviceName, eventName, formattedEventName);
+                // The matched event identifier tells which event it is, so it is converted into the parameter type
+                // of its remote function
+                String dataTypeName = codegenUtils.getValidName(
+                        codegenUtils.escapeIdentifier(remoteFunction.getEventType().trim()), true);
+                MatchClauseNode matchClause = generateMatchClause(serviceName, eventName, formattedEventName,
+                        dataTypeName, remoteFunction.getPartitionKeyPath(), remoteFunction.getPriority());
                 matchClauseNodes.add(matchClause);
             }
         }
@@ -93,13 +108,43 @@ public class GenerateMatchStatementNode implements Generator {
     }
 
     /**
-     * Generates each match clause which filters event types in dispatcher_service.bal.
+     * Generates each match clause which filters event types in dispatcher_service.bal. The payload is converted
+     * once into a readonly value, which is shared by all the services the event is fanned out to. The events with a
+     * partition key are passed to the remote function in the order they are received for each key, and the priority
+     * class is passed only for the events which do not have the normal priority.
      */
-    private MatchClauseNode generateMatchClause(String serviceTypeName, String eventName, String formattedEventName) {
-        SeparatedNodeList<FunctionArgumentNode> argumentsList = createSeparatedNodeList(
-                createPositionalArgumentNode(createSimpleNameReferenceNode(
+    private MatchClauseNode generateMatchClause(String serviceTypeName, String eventName, String formattedEventName,
+                                                String dataTypeName, String partitionKeyPath, String priority) {
+        // {@code readonly & DataType genericDataType = check payload.cloneWithType();}
+        MethodCallExpressionNode cloneWithTypeNode = createMethodCallExpressionNode(
+                createSimpleNameReferenceNode(createIdentifierToken(Constants.PAYLOAD_VAR_NAME)),
+                createToken(SyntaxKind.DOT_TOKEN),
+                createSimpleNameReferenceNode(createIdentifierToken(Constants.CLONE_WITH_TYPE_FUNCTION_NAME)),
+                createToken(SyntaxKind.OPEN_PAREN_TOKEN), createSeparatedNodeList(),
+                createToken(SyntaxKind.CLOSE_PAREN_TOKEN));
+        IntersectionTypeDescriptorNode readonlyDataType = createIntersectionTypeDescriptorNode(
+                createBuiltinSimpleNameReferenceNode(null, createToken(SyntaxKind.READONLY_KEYWORD)),
+                createToken(SyntaxKind.BITWISE_AND_TOKEN),
+                createSimpleNameReferenceNode(createIdentifierToken(dataTypeName)));
+        VariableDeclarationNode eventDeclarationNode = createVariableDeclarationNode(createEmptyNodeList(), null,
+                createTypedBindingPatternNode(readonlyDataType, createCaptureBindingPatternNode(
                         createIdentifierToken(Constants.CLONE_WITH_TYPE_VAR_NAME))),
-                createToken(SyntaxKind.COMMA_TOKEN),
+                createToken(SyntaxKind.EQUAL_TOKEN),
+                createCheckExpressionNode(SyntaxKind.CHECK_EXPRESSION, createToken(SyntaxKind.CHECK_KEYWORD),
+                        cloneWithTypeNode),
+                createToken(SyntaxKind.SEMICOLON_TOKEN));
+
+        List<Node> arguments = new ArrayList<>();
+        arguments.add(createPositionalArgumentNode(createSimpleNameReferenceNode(
+                createIdentifierToken(Constants.CLONE_WITH_TYPE_VAR_NAME))));
+        arguments.add(createToken(SyntaxKind.COMMA_TOKEN));
+        if (partitionKeyPath != null) {
+            // The partition key is read from the JSON payload, the same way as the event identifier
+            arguments.add(createPositionalArgumentNode(createSimpleNameReferenceNode(createIdentifierToken(
+                    "(check " + Constants.PAYLOAD_VAR_NAME + "." + partitionKeyPath + ").toString()"))));
+            arguments.add(createToken(SyntaxKind.COMMA_TOKEN));
+        }
+        arguments.addAll(List.of(
                 createPositionalArgumentNode(createSimpleNameReferenceNode(
                         createIdentifierToken("\"" + eventName + "\""))),
                 createToken(SyntaxKind.COMMA_TOKEN),
@@ -108,14 +153,20 @@ public class GenerateMatchStatementNode implements Generator {
                                 codegenUtils.getServiceTypeNameByServiceName(serviceTypeName) + "\""))),
                 createToken(SyntaxKind.COMMA_TOKEN),
                 createPositionalArgumentNode(createSimpleNameReferenceNode(
-                        createIdentifierToken("\"" + formattedEventName + "\""))));
+                        createIdentifierToken("\"" + formattedEventName + "\"")))));
+        if (priority != null) {
+            arguments.add(createToken(SyntaxKind.COMMA_TOKEN));
+            arguments.add(createPositionalArgumentNode(createSimpleNameReferenceNode(createIdentifierToken(
+                    Constants.NATIVE_HANDLER_MODULE_PREFIX + ":" + priority.toUpperCase(Locale.ENGLISH)))));
+        }
+        SeparatedNodeList<FunctionArgumentNode> argumentsList = createSeparatedNodeList(arguments);
 
         MethodCallExpressionNode methodCallExpressionNode = createMethodCallExpressionNode(
                 createSimpleNameReferenceNode(
                         createIdentifierToken(Constants.SELF_KEYWORD)),
                 createToken(SyntaxKind.DOT_TOKEN),
-                createSimpleNameReferenceNode(createIdentifierToken(
-                        Constants.INTEROP_INVOKE_FUNCTION_NAME)),
+                createSimpleNameReferenceNode(createIdentifierToken(partitionKeyPath == null
+                        ? Constants.INTEROP_INVOKE_FUNCTION_NAME : Constants.INTEROP_INVOKE_IN_ORDER_FUNCTION_NAME)),
                 createToken(SyntaxKind.OPEN_PAREN_TOKEN), argumentsList,
                 createToken(SyntaxKind.CLOSE_PAREN_TOKEN));
 
@@ -123,7 +174,7 @@ public class GenerateMatchStatementNode implements Generator {
                 createToken(SyntaxKind.CHECK_KEYWORD), methodCallExpressionNode);
         BlockStatementNode blockStatement = createBlockStatementNode(
                 createToken(SyntaxKind.OPEN_BRACE_TOKEN),
-                createNodeList(createExpressionStatementNode(SyntaxKind.CALL_STATEMENT,
+                createNodeList(eventDeclarationNode, createExpressionStatementNode(SyntaxKind.CALL_STATEMENT,
                         lineNode,
                         createToken(SyntaxKind.SEMICOLON_TOKEN))),
                 createToken(SyntaxKind.CLOSE_BRACE_TOKEN));
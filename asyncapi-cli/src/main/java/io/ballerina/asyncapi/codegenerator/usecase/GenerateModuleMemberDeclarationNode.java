@@ -21,10 +21,12 @@ package io.ballerina.asyncapi.codegenerator.usecase;
 import com.fasterxml.jackson.databind.node.TextNode;
 import io.apicurio.datamodels.core.models.Extension;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.CodegenOptions;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
 import io.ballerina.asyncapi.codegenerator.entity.Schema;
 import io.ballerina.asyncapi.codegenerator.usecase.utils.CodegenUtils;
 import io.ballerina.asyncapi.codegenerator.usecase.utils.DocCommentsUtils;
+import io.ballerina.asyncapi.codegenerator.usecase.utils.SchemaStructureUtils;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.ArrayDimensionNode;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
@@ -35,6 +37,7 @@ import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeFactory;
 import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.RecordFieldNode;
+import io.ballerina.compiler.syntax.tree.RecordRestDescriptorNode;
 import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.Token;
@@ -42,8 +45,13 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
@@ -54,17 +62,32 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createArrayTypeDescr
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createEnumDeclarationNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createEnumMemberNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createIntersectionTypeDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMarkdownDocumentationNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMetadataNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createOptionalTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createParenthesisedTypeDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createRecordFieldNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createRecordRestDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createRecordTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeDefinitionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createUnionTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.ASTERISK_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.BITWISE_AND_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_PIPE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.ELLIPSIS_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.ENUM_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_PIPE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.PIPE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.QUESTION_MARK_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.READONLY_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
 
@@ -73,12 +96,42 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
  */
 public class GenerateModuleMemberDeclarationNode implements Generator {
     private final Map.Entry<String, Schema> recordFields;
+    // Schemas which the other schemas can refer, used to check the schemas included with allOf
+    private final Map<String, Schema> schemas;
+    // Names of the generated types by their structure keys, used to refer a type instead of repeating it inline
+    private final Map<String, String> typeNamesByStructure;
+    private final CodegenOptions options;
 
     private final CodegenUtils codegenUtils = new CodegenUtils();
     private final DocCommentsUtils commentsUtils = new DocCommentsUtils();
+    // Schemas which are being generated in the current path, used to detect recursive inline schemas
+    private final Set<Schema> schemasInPath = new HashSet<>();
+    private final SchemaStructureUtils schemaStructureUtils = new SchemaStructureUtils();
 
     public GenerateModuleMemberDeclarationNode(Map.Entry<String, Schema> recordFields) {
+        this(recordFields, Collections.emptyMap(), new CodegenOptions());
+    }
+
+    public GenerateModuleMemberDeclarationNode(Map.Entry<String, Schema> recordFields,
+                                               Map<String, String> typeNamesByStructure, CodegenOptions options) {
+        this(recordFields, Collections.emptyMap(), typeNamesByStructure, options);
+    }
+
+    /**
+     * Constructor override, which refers the given types by their names when an inline schema has the same
+     * structure as one of them.
+     *
+     * @param recordFields         name and the schema of the type to generate
+     * @param schemas              schemas which can be referred, by their names
+     * @param typeNamesByStructure names of the generated types by their structure keys
+     * @param options              options which control the generated types
+     */
+    public GenerateModuleMemberDeclarationNode(Map.Entry<String, Schema> recordFields, Map<String, Schema> schemas,
+                                               Map<String, String> typeNamesByStructure, CodegenOptions options) {
         this.recordFields = recordFields;
+        this.schemas = schemas;
+        this.typeNamesByStructure = typeNamesByStructure;
+        this.options = options;
     }
 
     @Override
@@ -94,7 +147,14 @@ public class GenerateModuleMemberDeclarationNode implements Generator {
         List<Node> recordFieldList = new ArrayList<>();
         List<String> requiredList = (recordFields.getValue().getRequired() != null)
                 ? recordFields.getValue().getRequired() : new ArrayList<>();
-        if (recordFields.getValue().getEnum() != null) {
+        schemasInPath.add(recordFields.getValue());
+        if (recordFields.getValue().getRef() != null && recordFields.getValue().getType() == null
+                && recordFields.getValue().getSchemaProperties() == null) {
+            // Handle when the schema is a reference to another schema, which may refer back to this schema
+            return createTypeDefinitionNode(metadataNode, createToken(PUBLIC_KEYWORD), createToken(TYPE_KEYWORD),
+                    typeName, getTypeDescriptorNodeForSchema(recordFields.getValue()),
+                    createToken(SEMICOLON_TOKEN));
+        } else if (recordFields.getValue().getEnum() != null) {
             // Handle enums
             List<Node> enums = new ArrayList<>();
             for (int i = 0; i < recordFields.getValue().getEnum().size(); i++) {
@@ -108,15 +168,23 @@ public class GenerateModuleMemberDeclarationNode implements Generator {
             return createEnumDeclarationNode(metadataNode, createToken(PUBLIC_KEYWORD), createToken(ENUM_KEYWORD),
                     typeName, createToken(OPEN_BRACE_TOKEN),
                     createSeparatedNodeList(enums), createToken(CLOSE_BRACE_TOKEN), null);
+        } else if (recordFields.getValue().getSchemaProperties() == null && hasUnionMembers(recordFields.getValue())) {
+            // Handle oneOf and anyOf, which are generated as the union of the types of the member schemas
+            return createTypeDefinitionNode(metadataNode, createToken(PUBLIC_KEYWORD), createToken(TYPE_KEYWORD),
+                    typeName, addReadonlyType(addNullableType(recordFields.getValue(),
+                            getUnionTypeDescriptorNode(recordFields.getValue()))), createToken(SEMICOLON_TOKEN));
+        } else if (recordFields.getValue().getAllOf() != null) {
+            // Handle allOf, which is flattened into a single record
+            addAllOfRecordFields(recordFields.getValue(), recordFieldList);
         } else if (recordFields.getValue().getSchemaProperties() == null && recordFields.getValue().getType() != null) {
             // Handle when the schema is defined directly under the name
             // (i.e. there is no properties attribute under the schema)
             TypeDescriptorNode fieldTypeName = getTypeDescriptorNode(recordFields.getValue());
             typeDefinitionNode = createTypeDefinitionNode(metadataNode,
                     createToken(PUBLIC_KEYWORD), createToken(TYPE_KEYWORD),
-                    typeName, createOptionalTypeDescriptorNode(
+                    typeName, addReadonlyType(createOptionalTypeDescriptorNode(
                             fieldTypeName,
-                            createToken(QUESTION_MARK_TOKEN)), createToken(SEMICOLON_TOKEN));
+                            createToken(QUESTION_MARK_TOKEN))), createToken(SEMICOLON_TOKEN));
             return typeDefinitionNode;
         } else if (recordFields.getValue().getSchemaProperties() != null) {
             // Handle when the properties attribute is there inside the schema
@@ -127,22 +195,40 @@ public class GenerateModuleMemberDeclarationNode implements Generator {
             // TODO: handle when the fields are directly under the Schema.
         }
         NodeList<Node> fieldNodes = createNodeList(recordFieldList);
+        boolean closedRecord = isClosedRecord(recordFields.getValue());
         RecordTypeDescriptorNode recordTypeDescriptorNode =
                 createRecordTypeDescriptorNode(createToken(SyntaxKind.RECORD_KEYWORD),
-                        createToken(OPEN_BRACE_TOKEN), fieldNodes, null,
-                        createToken(SyntaxKind.CLOSE_BRACE_TOKEN));
+                        createToken(closedRecord ? OPEN_BRACE_PIPE_TOKEN : OPEN_BRACE_TOKEN), fieldNodes,
+                        getRecordRestDescriptorNode(recordFields.getValue()),
+                        createToken(closedRecord ? CLOSE_BRACE_PIPE_TOKEN : CLOSE_BRACE_TOKEN));
         typeDefinitionNode = createTypeDefinitionNode(metadataNode,
                 createToken(PUBLIC_KEYWORD), createToken(TYPE_KEYWORD),
-                typeName, recordTypeDescriptorNode, createToken(SEMICOLON_TOKEN));
+                typeName, addReadonlyType(recordTypeDescriptorNode), createToken(SEMICOLON_TOKEN));
         return typeDefinitionNode;
     }
 
+    /**
+     * Make the type readonly when the readonly types are enabled. The readonly intersection applies to the nested
+     * records and arrays as well, hence only the type definitions are intersected with readonly.
+     */
+    private TypeDescriptorNode addReadonlyType(TypeDescriptorNode typeDescriptorNode) {
+        if (!options.isReadonlyTypes()) {
+            return typeDescriptorNode;
+        }
+        if (typeDescriptorNode.kind() == SyntaxKind.UNION_TYPE_DESC) {
+            typeDescriptorNode = createParenthesisedTypeDescriptorNode(createToken(OPEN_PAREN_TOKEN),
+                    typeDescriptorNode, createToken(CLOSE_PAREN_TOKEN));
+        }
+        return createIntersectionTypeDescriptorNode(
+                createBuiltinSimpleNameReferenceNode(SyntaxKind.READONLY_TYPE_DESC, createToken(READONLY_KEYWORD)),
+                createToken(BITWISE_AND_TOKEN), typeDescriptorNode);
+    }
+
     /**
      * This method generates a record field with given schema properties.
      */
     private void addRecordField(List<String> required, List<Node> recordFieldList, Map.Entry<String, Schema> field)
             throws BallerinaAsyncApiException {
-        // TODO: Handle allOf , oneOf, anyOf
         RecordFieldNode recordFieldNode;
         List<Node> schemaDoc = new ArrayList<>();
         String fieldName = codegenUtils.escapeIdentifier(field.getKey().trim());
@@ -177,7 +263,37 @@ public class GenerateModuleMemberDeclarationNode implements Generator {
 
     private TypeDescriptorNode getTypeDescriptorNode(Schema schema)
             throws BallerinaAsyncApiException {
-        if (schema.getType() != null || schema.getSchemaProperties() != null) {
+        if (!schemasInPath.add(schema)) {
+            return getRecursiveTypeDescriptorNode(schema);
+        }
+        try {
+            return getTypeDescriptorNodeForSchema(schema);
+        } finally {
+            schemasInPath.remove(schema);
+        }
+    }
+
+    /**
+     * Generate the type of a schema which contains itself. The references between the named schemas are emitted
+     * as type names, so a schema object can only contain itself when it was inlined by the dereferencing. When it
+     * is the schema being generated, it is referred by its type name.
+     */
+    private TypeDescriptorNode getRecursiveTypeDescriptorNode(Schema schema) throws BallerinaAsyncApiException {
+        if (!schema.equals(recordFields.getValue())) {
+            throw new BallerinaAsyncApiException("Recursive inline schema found in the schema "
+                    + recordFields.getKey() + ", define it under the components to refer it recursively");
+        }
+        Token typeName = AbstractNodeFactory.createIdentifierToken(codegenUtils.getValidName(
+                codegenUtils.escapeIdentifier(recordFields.getKey().trim()), true));
+        return addNullableType(schema, createBuiltinSimpleNameReferenceNode(null, typeName));
+    }
+
+    private TypeDescriptorNode getTypeDescriptorNodeForSchema(Schema schema) throws BallerinaAsyncApiException {
+        if (schema.getSchemaProperties() == null && hasUnionMembers(schema)) {
+            return addNullableType(schema, getUnionTypeDescriptorNode(schema));
+        } else if (schema.getAllOf() != null) {
+            return addNullableType(schema, getRecordTypeDescriptorNode(schema));
+        } else if (schema.getType() != null || schema.getSchemaProperties() != null) {
             TypeDescriptorNode originalTypeDesc = getTypeDescriptorNodeForObjects(schema);
             return addNullableType(schema, originalTypeDesc);
         } else if (schema.getRef() != null) {
@@ -197,6 +313,13 @@ public class GenerateModuleMemberDeclarationNode implements Generator {
 
     private TypeDescriptorNode getTypeDescriptorNodeForObjects(Schema schema) throws BallerinaAsyncApiException {
         if (schema.getSchemaProperties() != null) {
+            String existingTypeName = typeNamesByStructure.get(schemaStructureUtils.getStructureKey(schema));
+            if (existingTypeName != null && !existingTypeName.equals(recordFields.getKey())) {
+                // An inline object which has the same structure as a named schema, refer the named type
+                Token typeName = AbstractNodeFactory.createIdentifierToken(codegenUtils.getValidName(
+                        codegenUtils.escapeIdentifier(existingTypeName.trim()), true));
+                return createBuiltinSimpleNameReferenceNode(null, typeName);
+            }
             return getRecordTypeDescriptorNode(schema);
         } else if (schema.getType() != null) {
             return getTypeDescriptorNodeFroPreDefined(schema);
@@ -224,6 +347,12 @@ public class GenerateModuleMemberDeclarationNode implements Generator {
             case Constants.ARRAY:
                 return getTypeDescriptorNodeForArraySchema(schema);
             case Constants.OBJECT:
+                if (schema.getRef() == null && (schema.getAdditionalProperties() instanceof Schema
+                        || Boolean.FALSE.equals(schema.getAdditionalProperties()))) {
+                    // An object without properties is closed only when the schema restricts the properties, e.g.
+                    // a map of strings is generated as record {|string...;|}
+                    return getRecordTypeDescriptorNode(schema);
+                }
                 if (schema.getRef() != null) {
                     type = codegenUtils.getValidName(
                             codegenUtils.extractReferenceType(schema.getRef()), true);
@@ -241,18 +370,207 @@ public class GenerateModuleMemberDeclarationNode implements Generator {
 
     private RecordTypeDescriptorNode getRecordTypeDescriptorNode(Schema schema) throws BallerinaAsyncApiException {
         Map<String, Schema> properties = schema.getSchemaProperties();
+        boolean closedRecord = isClosedRecord(schema);
         Token recordKeyWord = AbstractNodeFactory.createIdentifierToken("record ");
-        Token bodyStartDelimiter = AbstractNodeFactory.createIdentifierToken("{ ");
-        Token bodyEndDelimiter = AbstractNodeFactory.createIdentifierToken("} ");
+        Token bodyStartDelimiter = AbstractNodeFactory.createIdentifierToken(closedRecord ? "{| " : "{ ");
+        Token bodyEndDelimiter = AbstractNodeFactory.createIdentifierToken(closedRecord ? "|} " : "} ");
         List<Node> recordFList = new ArrayList<>();
         List<String> required = schema.getRequired();
-        for (Map.Entry<String, Schema> property : properties.entrySet()) {
-            addRecordField(required, recordFList, property);
+        if (schema.getAllOf() != null) {
+            addAllOfRecordFields(schema, recordFList);
+        } else if (properties != null) {
+            for (Map.Entry<String, Schema> property : properties.entrySet()) {
+                addRecordField(required, recordFList, property);
+            }
         }
         NodeList<Node> fieldNodes = AbstractNodeFactory.createNodeList(recordFList);
 
         return createRecordTypeDescriptorNode(recordKeyWord, bodyStartDelimiter, fieldNodes,
-                null, bodyEndDelimiter);
+                getRecordRestDescriptorNode(schema), bodyEndDelimiter);
+    }
+
+    /**
+     * Add the fields of a schema composed with allOf. The properties and the required lists of the member schemas
+     * are merged into the record. A referred schema is included with a type inclusion, which the compiler flattens
+     * into the same record, only when the inclusion gives the same record. Otherwise its properties and required
+     * list are merged as well.
+     */
+    private void addAllOfRecordFields(Schema schema, List<Node> recordFieldList) throws BallerinaAsyncApiException {
+        List<String> required = new ArrayList<>();
+        collectAllOfRequired(schema, required, new HashSet<>());
+        Set<String> includedTypes = new LinkedHashSet<>();
+        Map<String, Schema> properties = new LinkedHashMap<>();
+        collectAllOfFields(schema, isClosedRecord(schema), required, includedTypes, properties, new HashSet<>());
+        for (String includedType : includedTypes) {
+            recordFieldList.add(createTypeReferenceNode(createToken(ASTERISK_TOKEN),
+                    createSimpleNameReferenceNode(createIdentifierToken(includedType)), createToken(SEMICOLON_TOKEN)));
+        }
+        for (Map.Entry<String, Schema> field : properties.entrySet()) {
+            addRecordField(required, recordFieldList, field);
+        }
+    }
+
+    private void collectAllOfFields(Schema schema, boolean closedRecord, List<String> required,
+                                    Set<String> includedTypes, Map<String, Schema> properties,
+                                    Set<Schema> visitedSchemas) throws BallerinaAsyncApiException {
+        if (!visitedSchemas.add(schema)) {
+            return;
+        }
+        if (schema.getRef() != null && schema.getSchemaProperties() == null) {
+            Schema referredSchema = getAllOfReferredSchema(schema.getRef());
+            if (isIncludableRecord(referredSchema, closedRecord, required)) {
+                includedTypes.add(codegenUtils.getValidName(
+                        codegenUtils.extractReferenceType(schema.getRef()), true));
+            } else {
+                collectAllOfFields(referredSchema, closedRecord, required, includedTypes, properties,
+                        visitedSchemas);
+            }
+            return;
+        }
+        if (schema.getEnum() != null || hasUnionMembers(schema)
+                || (schema.getType() != null && !schema.getType().equals(Constants.OBJECT))) {
+            throw new BallerinaAsyncApiException("A schema in the allOf of the schema " + recordFields.getKey()
+                    + " is not an object, only objects can be combined into a record");
+        }
+        if (schema.getAllOf() != null) {
+            for (Schema allOfSchema : schema.getAllOf()) {
+                collectAllOfFields(allOfSchema, closedRecord, required, includedTypes, properties, visitedSchemas);
+            }
+        }
+        // The properties defined later override the properties with the same name
+        if (schema.getSchemaProperties() != null) {
+            properties.putAll(schema.getSchemaProperties());
+        }
+    }
+
+    private void collectAllOfRequired(Schema schema, List<String> required, Set<Schema> visitedSchemas)
+            throws BallerinaAsyncApiException {
+        if (!visitedSchemas.add(schema)) {
+            return;
+        }
+        if (schema.getRef() != null && schema.getSchemaProperties() == null) {
+            collectAllOfRequired(getAllOfReferredSchema(schema.getRef()), required, visitedSchemas);
+            return;
+        }
+        if (schema.getAllOf() != null) {
+            for (Schema allOfSchema : schema.getAllOf()) {
+                collectAllOfRequired(allOfSchema, required, visitedSchemas);
+            }
+        }
+        if (schema.getRequired() != null) {
+            required.addAll(schema.getRequired());
+        }
+    }
+
+    private Schema getAllOfReferredSchema(String ref) throws BallerinaAsyncApiException {
+        String schemaName = ref.substring(ref.lastIndexOf('/') + 1);
+        Schema referredSchema = schemas.get(schemaName);
+        if (referredSchema == null) {
+            throw new BallerinaAsyncApiException("Schema " + schemaName + ", which is in the allOf of the schema "
+                    + recordFields.getKey() + ", is not found");
+        }
+        return referredSchema;
+    }
+
+    /**
+     * Check whether a schema in an allOf can be included into the record with a type inclusion. It should be
+     * generated as a record which is open or closed the same way as the including record, without a rest field,
+     * and all the fields which the allOf requires should be required in it as well.
+     */
+    private boolean isIncludableRecord(Schema schema, boolean closedRecord, List<String> required)
+            throws BallerinaAsyncApiException {
+        if (schema.getRef() != null || schema.getEnum() != null || hasUnionMembers(schema)
+                || (schema.getType() != null && !schema.getType().equals(Constants.OBJECT))
+                || (schema.getSchemaProperties() == null && schema.getAllOf() == null)) {
+            return false;
+        }
+        if (schema.getAdditionalProperties() instanceof Schema || isClosedRecord(schema) != closedRecord) {
+            return false;
+        }
+        List<String> includedRequired = new ArrayList<>();
+        collectAllOfRequired(schema, includedRequired, new HashSet<>());
+        Set<String> includedFields = new HashSet<>();
+        collectAllOfFieldNames(schema, includedFields, new HashSet<>());
+        for (String requiredField : required) {
+            if (includedFields.contains(requiredField) && !includedRequired.contains(requiredField)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void collectAllOfFieldNames(Schema schema, Set<String> fieldNames, Set<Schema> visitedSchemas)
+            throws BallerinaAsyncApiException {
+        if (!visitedSchemas.add(schema)) {
+            return;
+        }
+        if (schema.getRef() != null && schema.getSchemaProperties() == null) {
+            collectAllOfFieldNames(getAllOfReferredSchema(schema.getRef()), fieldNames, visitedSchemas);
+            return;
+        }
+        if (schema.getAllOf() != null) {
+            for (Schema allOfSchema : schema.getAllOf()) {
+                collectAllOfFieldNames(allOfSchema, fieldNames, visitedSchemas);
+            }
+        }
+        if (schema.getSchemaProperties() != null) {
+            fieldNames.addAll(schema.getSchemaProperties().keySet());
+        }
+    }
+
+    private boolean hasUnionMembers(Schema schema) {
+        return (schema.getOneOf() != null && !schema.getOneOf().isEmpty())
+                || (schema.getAnyOf() != null && !schema.getAnyOf().isEmpty());
+    }
+
+    /**
+     * Generate the union of the types of the schemas in oneOf and anyOf. A value of an anyOf can match more than one
+     * of the schemas, but the union is the closest Ballerina type for both.
+     */
+    private TypeDescriptorNode getUnionTypeDescriptorNode(Schema schema) throws BallerinaAsyncApiException {
+        List<Schema> memberSchemas = new ArrayList<>();
+        if (schema.getOneOf() != null) {
+            memberSchemas.addAll(schema.getOneOf());
+        }
+        if (schema.getAnyOf() != null) {
+            memberSchemas.addAll(schema.getAnyOf());
+        }
+        TypeDescriptorNode unionTypeDesc = null;
+        Set<String> memberTypes = new HashSet<>();
+        for (Schema memberSchema : memberSchemas) {
+            TypeDescriptorNode memberTypeDesc = getTypeDescriptorNode(memberSchema);
+            if (!memberTypes.add(memberTypeDesc.toSourceCode().trim())) {
+                continue;
+            }
+            unionTypeDesc = unionTypeDesc == null ? memberTypeDesc
+                    : createUnionTypeDescriptorNode(unionTypeDesc, createToken(PIPE_TOKEN), memberTypeDesc);
+        }
+        return unionTypeDesc;
+    }
+
+    /**
+     * Check whether the record of a schema is closed. A schema which sets additionalProperties to false, or to a
+     * schema of the additional fields, is always closed. The other schemas are closed only when the closed records
+     * are enabled, unless they set additionalProperties to true.
+     */
+    private boolean isClosedRecord(Schema schema) {
+        Object additionalProperties = schema.getAdditionalProperties();
+        if (additionalProperties instanceof Boolean) {
+            return !((Boolean) additionalProperties);
+        }
+        return additionalProperties instanceof Schema || options.isClosedRecords();
+    }
+
+    /**
+     * Generate the rest field of a record, when the additionalProperties attribute defines the schema of the
+     * additional fields.
+     */
+    private RecordRestDescriptorNode getRecordRestDescriptorNode(Schema schema) throws BallerinaAsyncApiException {
+        if (!(schema.getAdditionalProperties() instanceof Schema)) {
+            return null;
+        }
+        return createRecordRestDescriptorNode(getTypeDescriptorNode((Schema) schema.getAdditionalProperties()),
+                createToken(ELLIPSIS_TOKEN), createToken(SEMICOLON_TOKEN));
     }
 
     /**
@@ -312,6 +630,13 @@ public class GenerateModuleMemberDeclarationNode implements Generator {
                 memberTypeDesc = createBuiltinSimpleNameReferenceNode(null, typeName);
                 // TODO: memberTypeDesc != ArrayTypeDescriptorNode
                 return createArrayTypeDescriptorNode(memberTypeDesc, createNodeList(arrayDimensionNode));
+            } else if (schemaItem.getAllOf() != null || hasUnionMembers(schemaItem)) {
+                memberTypeDesc = getTypeDescriptorNode(schemaItem);
+                if (memberTypeDesc.kind() == SyntaxKind.UNION_TYPE_DESC) {
+                    memberTypeDesc = createParenthesisedTypeDescriptorNode(createToken(OPEN_PAREN_TOKEN),
+                            memberTypeDesc, createToken(CLOSE_PAREN_TOKEN));
+                }
+                return createArrayTypeDescriptorNode(memberTypeDesc, createNodeList(arrayDimensionNode));
             } else if (schemaItem.getType() != null
                     && (schemaItem.getType().equals("array") || schemaItem.getType().equals("object"))) {
                 memberTypeDesc = getTypeDescriptorNode(schemaItem);
@@ -22,7 +22,6 @@ import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiExcept
 import io.ballerina.asyncapi.codegenerator.entity.RemoteFunction;
 import io.ballerina.asyncapi.codegenerator.usecase.utils.CodegenUtils;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
-import io.ballerina.compiler.syntax.tree.BuiltinSimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
 import io.ballerina.compiler.syntax.tree.MethodDeclarationNode;
 import io.ballerina.compiler.syntax.tree.Node;
@@ -32,6 +31,7 @@ import io.ballerina.compiler.syntax.tree.OptionalTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -43,11 +43,13 @@ import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSepara
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionSignatureNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createIntersectionTypeDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMethodDeclarationNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createOptionalTypeDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createRequiredParameterNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnTypeDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeDefinitionNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.BITWISE_AND_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.ERROR_KEYWORD;
@@ -56,6 +58,7 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.QUESTION_MARK_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.READONLY_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.REMOTE_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.RETURNS_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
@@ -68,11 +71,25 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
 public class GenerateServiceTypeNode implements Generator {
     private final String serviceTypeName;
     private final List<RemoteFunction> remoteFunctionNames;
+    private final boolean readonlyEvents;
     private final CodegenUtils codegenUtils = new CodegenUtils();
 
     public GenerateServiceTypeNode(String serviceTypeName, List<RemoteFunction> remoteFunctionNames) {
+        this(serviceTypeName, remoteFunctionNames, false);
+    }
+
+    /**
+     * Constructor override, which can type the event parameters of the remote functions as readonly.
+     *
+     * @param serviceTypeName     name of the service type
+     * @param remoteFunctionNames remote functions of the service type
+     * @param readonlyEvents      whether the event parameters are readonly
+     */
+    public GenerateServiceTypeNode(String serviceTypeName, List<RemoteFunction> remoteFunctionNames,
+                                   boolean readonlyEvents) {
         this.serviceTypeName = serviceTypeName;
         this.remoteFunctionNames = remoteFunctionNames;
+        this.readonlyEvents = readonlyEvents;
     }
 
     @Override
@@ -90,8 +107,14 @@ public class GenerateServiceTypeNode implements Generator {
             List<Node> parameterList = new ArrayList<>();
             String eventType = codegenUtils.getValidName(
                     codegenUtils.escapeIdentifier(remoteFunction.getEventType().trim()), true);
-            BuiltinSimpleNameReferenceNode typeNode = createBuiltinSimpleNameReferenceNode(
+            TypeDescriptorNode typeNode = createBuiltinSimpleNameReferenceNode(
                     null, createIdentifierToken(eventType));
+            if (readonlyEvents) {
+                // The events are shared with the other strands without copying, hence they cannot be mutated
+                typeNode = createIntersectionTypeDescriptorNode(createBuiltinSimpleNameReferenceNode(
+                        SyntaxKind.READONLY_TYPE_DESC, createToken(READONLY_KEYWORD)),
+                        createToken(BITWISE_AND_TOKEN), typeNode);
+            }
             parameterList.add(createRequiredParameterNode(createEmptyNodeList(),
                     typeNode, createIdentifierToken("event")));
             MethodDeclarationNode methodDeclarationNode = createMethodDeclarationNode(
@@ -0,0 +1,284 @@
+/*
+ *  Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.repository.SpecDocumentCache;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Resolve the $ref attributes which point to other files relative to the AsyncAPI specification, and return the
+ * specification with the referred content pulled into it, so that only local references are left.
+ * <p>
+ * The referred schemas are added under `components.schemas` and the references are replaced with local references
+ * to them, so that they are still generated as named types. Other referred objects, such as messages, are copied in
+ * place of the reference. References to remote URLs are left as they are.
+ */
+public class ResolveExternalReferences {
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+    private final JsonNode asyncApiSpec;
+    private final Path baseDirectory;
+    private final SpecDocumentCache documentCache;
+    // Names of the schemas added to the specification, by the target of the reference
+    private final Map<Target, String> schemaNames = new HashMap<>();
+    private final Set<String> usedSchemaNames = new HashSet<>();
+    private final Set<Target> targetsInPath = new HashSet<>();
+    private final Set<String> unresolvedRefs = new LinkedHashSet<>();
+    private ObjectNode componentSchemas;
+
+    /**
+     * Constructor for the external reference resolver.
+     *
+     * @param asyncApiSpec  AsyncAPI specification
+     * @param baseDirectory directory of the specification, which the references are relative to
+     * @param documentCache cache of the referred documents of the current code generation run
+     */
+    public ResolveExternalReferences(JsonNode asyncApiSpec, Path baseDirectory, SpecDocumentCache documentCache) {
+        this.asyncApiSpec = asyncApiSpec;
+        this.baseDirectory = baseDirectory;
+        this.documentCache = documentCache;
+    }
+
+    /**
+     * Resolve the external references of the specification.
+     *
+     * @return the specification with only local references, or the given specification if it has no external
+     * references
+     * @throws BallerinaAsyncApiException if a referred document or a path in it can not be read
+     */
+    public JsonNode resolve() throws BallerinaAsyncApiException {
+        Set<Target> targets = getTargets(asyncApiSpec, null);
+        if (targets.isEmpty()) {
+            return asyncApiSpec;
+        }
+        loadDocuments(targets);
+
+        ObjectNode resolvedSpec = asyncApiSpec.deepCopy();
+        ObjectNode components = resolvedSpec.has("components")
+                ? (ObjectNode) resolvedSpec.get("components") : resolvedSpec.putObject("components");
+        componentSchemas = components.has("schemas")
+                ? (ObjectNode) components.get("schemas") : components.putObject("schemas");
+        componentSchemas.fieldNames().forEachRemaining(usedSchemaNames::add);
+
+        resolveReferences(resolvedSpec, null, false);
+        if (!unresolvedRefs.isEmpty()) {
+            throw new BallerinaAsyncApiException("Could not resolve some Yaml paths defined in $ref attributes: "
+                    .concat(String.join(", ", unresolvedRefs)));
+        }
+        return resolvedSpec;
+    }
+
+    /**
+     * Load the referred documents level by level, so that the documents referred at the same level are read in
+     * parallel. Only the referred parts of a document are followed to find the next level.
+     */
+    private void loadDocuments(Set<Target> targets) throws BallerinaAsyncApiException {
+        Set<Target> visited = new HashSet<>();
+        Set<Target> pending = targets;
+        while (!pending.isEmpty()) {
+            Set<Path> documentPaths = new HashSet<>();
+            pending.forEach(target -> documentPaths.add(target.documentPath));
+            documentCache.loadDocuments(documentPaths);
+            visited.addAll(pending);
+
+            Set<Target> nextTargets = new HashSet<>();
+            for (Target target : pending) {
+                JsonNode targetNode = getTargetNode(target);
+                if (targetNode != null) {
+                    nextTargets.addAll(getTargets(targetNode, target.documentPath));
+                }
+            }
+            nextTargets.removeAll(visited);
+            pending = nextTargets;
+        }
+    }
+
+    private Set<Target> getTargets(JsonNode node, Path documentPath) throws BallerinaAsyncApiException {
+        Extractor extractReferences = new ExtractReferencesFromSpec(node);
+        Set<String> references = extractReferences.extract();
+        Set<Target> targets = new HashSet<>();
+        for (String reference : references) {
+            Target target = getTarget(reference, documentPath);
+            if (target != null) {
+                targets.add(target);
+            }
+        }
+        return targets;
+    }
+
+    private void resolveReferences(JsonNode node, Path documentPath, boolean isSchema)
+            throws BallerinaAsyncApiException {
+        if (node.isObject()) {
+            JsonNode ref = node.get("$ref");
+            Target target = ref != null && ref.isTextual() ? getTarget(ref.asText(), documentPath) : null;
+            if (target != null) {
+                resolveReference((ObjectNode) node, ref.asText(), target, isSchema);
+                return;
+            }
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (!isSchema && field.getKey().equals("schemas") && field.getValue().isObject()) {
+                    // The referred schemas are added to the same object, and are resolved as they are added
+                    List<JsonNode> schemas = new ArrayList<>();
+                    field.getValue().elements().forEachRemaining(schemas::add);
+                    for (JsonNode schema : schemas) {
+                        resolveReferences(schema, documentPath, true);
+                    }
+                } else {
+                    resolveReferences(field.getValue(), documentPath, isSchema
+                            || field.getKey().equals("payload") || field.getKey().equals("schema"));
+                }
+            }
+        } else if (node.isArray()) {
+            for (JsonNode item : node) {
+                resolveReferences(item, documentPath, isSchema);
+            }
+        }
+    }
+
+    private void resolveReference(ObjectNode node, String ref, Target target, boolean isSchema)
+            throws BallerinaAsyncApiException {
+        JsonNode targetNode = getTargetNode(target);
+        if (targetNode == null) {
+            unresolvedRefs.add(ref);
+            return;
+        }
+        if (isSchema) {
+            node.put("$ref", SCHEMA_REF_PREFIX.concat(getSchemaName(target, targetNode)));
+            return;
+        }
+        if (!targetNode.isObject()) {
+            unresolvedRefs.add(ref);
+            return;
+        }
+        if (!targetsInPath.add(target)) {
+            throw new BallerinaAsyncApiException("Recursive reference found in the $ref attribute: ".concat(ref));
+        }
+        node.removeAll();
+        node.setAll((ObjectNode) targetNode.deepCopy());
+        resolveReferences(node, target.documentPath, false);
+        targetsInPath.remove(target);
+    }
+
+    /**
+     * Get the name of the schema the target was added as, adding it under `components.schemas` when it is referred
+     * for the first time. The name is taken from the reference, and is made unique with a numeric suffix.
+     */
+    private String getSchemaName(Target target, JsonNode targetNode) throws BallerinaAsyncApiException {
+        String schemaName = schemaNames.get(target);
+        if (schemaName != null) {
+            return schemaName;
+        }
+        String baseName = target.getBaseName();
+        schemaName = baseName;
+        for (int i = 1; usedSchemaNames.contains(schemaName); i++) {
+            schemaName = baseName + i;
+        }
+        usedSchemaNames.add(schemaName);
+        schemaNames.put(target, schemaName);
+
+        JsonNode schema = targetNode.deepCopy();
+        componentSchemas.set(schemaName, schema);
+        resolveReferences(schema, target.documentPath, true);
+        return schemaName;
+    }
+
+    private JsonNode getTargetNode(Target target) throws BallerinaAsyncApiException {
+        try {
+            JsonNode targetNode = documentCache.getDocument(target.documentPath)
+                    .at(JsonPointer.compile(target.pointer));
+            return targetNode.isMissingNode() ? null : targetNode;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Get the target of a reference, or null if the reference is left as it is. The local references of the
+     * specification and the references to remote URLs are left for the dereferencing.
+     */
+    private Target getTarget(String ref, Path documentPath) throws BallerinaAsyncApiException {
+        if (ref.startsWith("#")) {
+            return documentPath == null ? null : new Target(documentPath, ref.substring(1));
+        }
+        if (ref.contains("://")) {
+            return null;
+        }
+        int pointerIndex = ref.indexOf('#');
+        String filePath = pointerIndex < 0 ? ref : ref.substring(0, pointerIndex);
+        String pointer = pointerIndex < 0 ? "" : ref.substring(pointerIndex + 1);
+        Path directory = documentPath == null ? baseDirectory : documentPath.getParent();
+        return new Target(documentCache.getCanonicalPath(directory, filePath), pointer);
+    }
+
+    /**
+     * Target of a reference, which is a JSON pointer into a document.
+     */
+    private static class Target {
+        private final Path documentPath;
+        private final String pointer;
+
+        Target(Path documentPath, String pointer) {
+            this.documentPath = documentPath;
+            this.pointer = pointer;
+        }
+
+        /**
+         * Get the name of the referred object, which is the last segment of the pointer, or the file name when the
+         * whole document is referred.
+         */
+        String getBaseName() {
+            if (pointer.isEmpty()) {
+                String fileName = documentPath.getFileName().toString();
+                int extensionIndex = fileName.lastIndexOf('.');
+                return extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+            }
+            String lastSegment = pointer.substring(pointer.lastIndexOf('/') + 1);
+            return lastSegment.replace("~1", "/").replace("~0", "~");
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Target)) {
+                return false;
+            }
+            return documentPath.equals(((Target) other).documentPath) && pointer.equals(((Target) other).pointer);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(documentPath, pointer);
+        }
+    }
+}
@@ -116,6 +116,15 @@ public class CodegenUtils {
         return Constants.REMOTE_FUNCTION_NAME_PREFIX + getValidName(eventName, true);
     }
 
+    /**
+     * Get remote function name for the client when event name is provided.
+     * @param eventName event name as defined in async api doc
+     * @return remote function name for the client
+     */
+    public String getClientFunctionNameByEventName(String eventName) {
+        return Constants.CLIENT_REMOTE_FUNCTION_NAME_PREFIX + getValidName(eventName, true);
+    }
+
     /**
      * Get service type name when channel name/service name is provided.
      * @param serviceName service name as specified in async api doc
@@ -127,4 +136,13 @@ public class CodegenUtils {
         }
         return getValidName(serviceName.trim(), true) + Constants.SERVICE_TYPE_NAME_SUFFIX;
     }
+
+    /**
+     * Get the name of the union of the event types of a service type, when channel name/service name is provided.
+     * @param serviceName service name as specified in async api doc
+     * @return name of the union of the event types
+     */
+    public String getDataTypeNameByServiceName(String serviceName) {
+        return getServiceTypeNameByServiceName(serviceName) + Constants.SERVICE_DATA_TYPE_NAME_SUFFIX;
+    }
 }
@@ -0,0 +1,178 @@
+/*
+ *  Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.asyncapi.codegenerator.usecase.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.apicurio.datamodels.core.models.Extension;
+import io.ballerina.asyncapi.codegenerator.entity.Schema;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * This Utils class compares the schemas by their structure, which is what decides the generated Ballerina type.
+ * The documentation attributes, such as the title, the description and the examples, are ignored, so that the
+ * same shape documented differently in different places is generated only once.
+ */
+public class SchemaStructureUtils {
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+    // A schema is always an object in the key, so the marker of a cycle cannot be mistaken for a schema
+    private static final JsonNode CYCLE = NODE_FACTORY.textNode("<cycle>");
+    // Structure keys of the schemas which are already visited, the schemas are compared by identity
+    private final Map<Schema, JsonNode> structureKeys = new HashMap<>();
+    private final Set<Schema> schemasInPath = new HashSet<>();
+    private int cyclesFound = 0;
+
+    /**
+     * Get a key which is equal for two schemas only if they have the same structure. The properties and the
+     * required fields are compared regardless of their order. The key is the JSON representation of the structure,
+     * so the names and the values in it are escaped and cannot be mistaken for the structure around them.
+     *
+     * @param schema schema to get the key of
+     * @return structure key of the schema
+     */
+    public String getStructureKey(Schema schema) {
+        return getStructureNode(schema).toString();
+    }
+
+    private JsonNode getStructureNode(Schema schema) {
+        if (schema == null) {
+            return NODE_FACTORY.nullNode();
+        }
+        JsonNode structureNode = structureKeys.get(schema);
+        if (structureNode != null) {
+            return structureNode;
+        }
+        if (!schemasInPath.add(schema)) {
+            cyclesFound++;
+            return CYCLE;
+        }
+        int cyclesFoundBefore = cyclesFound;
+        try {
+            structureNode = createStructureNode(schema);
+        } finally {
+            schemasInPath.remove(schema);
+        }
+        // A key which contains a cycle depends on where the traversal started, hence it is not reused
+        if (cyclesFound == cyclesFoundBefore) {
+            structureKeys.put(schema, structureNode);
+        }
+        return structureNode;
+    }
+
+    private JsonNode createStructureNode(Schema schema) {
+        Map<String, JsonNode> attributes = new TreeMap<>();
+        putIfPresent(attributes, "$ref", schema.getRef());
+        putIfPresent(attributes, "type", schema.getType());
+        putIfPresent(attributes, "format", schema.getFormat());
+        putIfPresent(attributes, "x-nullable", getExtensionValue(schema.getExtension("x-nullable")));
+        // The constant values and the discriminator tell the events apart, even when their fields are the same
+        putIfPresent(attributes, "const", schema.getExtraProperty("const"));
+        putIfPresent(attributes, "discriminator", schema.getDiscriminator());
+        if (schema.getEnum() != null) {
+            ArrayNode enumNode = NODE_FACTORY.arrayNode();
+            schema.getEnum().forEach(value -> enumNode.add(toJsonNode(value)));
+            attributes.put("enum", enumNode);
+        }
+        if (schema.getRequired() != null) {
+            List<String> required = new ArrayList<>(schema.getRequired());
+            required.sort(String::compareTo);
+            ArrayNode requiredNode = NODE_FACTORY.arrayNode();
+            required.forEach(requiredNode::add);
+            attributes.put("required", requiredNode);
+        }
+        if (schema.getSchemaProperties() != null) {
+            Map<String, JsonNode> properties = new TreeMap<>();
+            schema.getSchemaProperties().forEach((name, property) -> properties.put(name, getStructureNode(property)));
+            attributes.put("properties", toObjectNode(properties));
+        }
+        if (schema.getItems() instanceof Schema) {
+            attributes.put("items", getStructureNode((Schema) schema.getItems()));
+        } else if (schema.getItems() instanceof List) {
+            attributes.put("items", getStructureNodes((List<?>) schema.getItems()));
+        }
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            attributes.put("additionalProperties", getStructureNode((Schema) schema.getAdditionalProperties()));
+        } else if (schema.getAdditionalProperties() != null) {
+            attributes.put("additionalProperties", toJsonNode(schema.getAdditionalProperties()));
+        }
+        if (schema.getAllOf() != null) {
+            attributes.put("allOf", getStructureNodes(schema.getAllOf()));
+        }
+        if (schema.getOneOf() != null) {
+            attributes.put("oneOf", getStructureNodes(schema.getOneOf()));
+        }
+        if (schema.getAnyOf() != null) {
+            attributes.put("anyOf", getStructureNodes(schema.getAnyOf()));
+        }
+        if (schema.getNot() != null) {
+            attributes.put("not", getStructureNode(schema.getNot()));
+        }
+        return toObjectNode(attributes);
+    }
+
+    private JsonNode getStructureNodes(List<?> schemas) {
+        ArrayNode structureNodes = NODE_FACTORY.arrayNode();
+        for (Object schema : schemas) {
+            structureNodes.add(getStructureNode((Schema) schema));
+        }
+        return structureNodes;
+    }
+
+    private static ObjectNode toObjectNode(Map<String, JsonNode> fields) {
+        ObjectNode objectNode = NODE_FACTORY.objectNode();
+        fields.forEach(objectNode::set);
+        return objectNode;
+    }
+
+    /**
+     * Convert a value of the schema into a JSON node. The values read from the specification are JSON nodes
+     * already, the others are kept with their types, so that e.g. the string "1" and the number 1 are different.
+     */
+    private static JsonNode toJsonNode(Object value) {
+        if (value instanceof JsonNode) {
+            return (JsonNode) value;
+        } else if (value instanceof Boolean) {
+            return NODE_FACTORY.booleanNode((Boolean) value);
+        } else if (value instanceof Number) {
+            return NODE_FACTORY.numberNode(new BigDecimal(value.toString()));
+        }
+        return NODE_FACTORY.textNode(String.valueOf(value));
+    }
+
+    private static Object getExtensionValue(Object extension) {
+        return extension instanceof Extension ? ((Extension) extension).value : extension;
+    }
+
+    private static void putIfPresent(Map<String, JsonNode> attributes, String name, Object value) {
+        if (value != null) {
+            attributes.put(name, toJsonNode(value));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+import ballerina/http;
+
+# An event to be sent with the `sendEvents` remote function of the client.
+public type EventMessage record {|
+    # Name of the event, as defined in the `x-ballerina-event-type` of the message
+    string eventName;
+    # Payload of the event
+    GenericDataType event;
+|};
+
+# Status of an event sent with the `sendBatch` remote function of the client, as reported by the listener.
+public type BatchEventStatus record {|
+    # Position of the event in the batch
+    int index;
+    # Whether the event was dispatched successfully
+    boolean success;
+    # Reason of the failure, when the event could not be dispatched
+    string message?;
+|};
+
+# Client which sends the events to a listener generated from the same AsyncAPI specification.
+public client class Client {
+    private final http:Client httpClient;
+    private final string path;
+
+    # Initializes the client.
+    #
+    # + serviceUrl - URL of the listener
+    # + path - Path of the listener resource which accepts the events
+    # + config - Configurations of the underlying HTTP client
+    # + return - An error if the HTTP client could not be initialized
+    public function init(string serviceUrl, string path = "/", http:ClientConfiguration config = {}) returns error? {
+        self.httpClient = check new (serviceUrl, config);
+        self.path = path;
+    }
+
+    # Sends the given events, keeping at most `maxInFlight` requests in flight at a time.
+    #
+    # + events - Events to be sent
+    # + maxInFlight - Maximum number of requests in flight
+    # + return - The result of sending each event, in the order of the given events
+    remote function sendEvents(EventMessage[] events, int maxInFlight = 10) returns error?[] {
+        int windowSize = maxInFlight < 1 ? 1 : maxInFlight;
+        error?[] results = [];
+        future<error?>[] inFlight = [];
+        foreach EventMessage message in events {
+            if inFlight.length() >= windowSize {
+                future<error?> oldest = inFlight.shift();
+                results.push(wait oldest);
+            }
+            future<error?> pending = start self.sendEvent(message.event, message.eventName);
+            inFlight.push(pending);
+        }
+        foreach future<error?> pending in inFlight {
+            results.push(wait pending);
+        }
+        return results;
+    }
+
+    # Sends the given events in one request to the batch endpoint of the listener, which is generated with the
+    # `--batch-endpoint` option. The events are sent as a JSON array, or one event per line with `ndjson`.
+    #
+    # + events - Events to be sent
+    # + ndjson - Whether the events are sent as `application/x-ndjson`, instead of a JSON array
+    # + return - The status of each event reported by the listener, in the order of the given events, or an error if
+    # the batch could not be sent
+    remote function sendBatch(EventMessage[] events, boolean ndjson = false) returns BatchEventStatus[]|error {
+        http:Request request = new;
+        json[] payloads = [];
+        foreach EventMessage message in events {
+            json payload = message.event.toJson();
+            check self.setEventIdentifier(request, payload, message.eventName);
+            payloads.push(payload);
+        }
+        if ndjson {
+            request.setTextPayload(string:'join("\n", ...payloads.map(payload => payload.toJsonString())),
+                "application/x-ndjson");
+        } else {
+            request.setJsonPayload(payloads);
+        }
+        string batchPath = self.path.endsWith("/") ? self.path + "batch" : self.path + "/batch";
+        http:Response response = check self.httpClient->post(batchPath, request);
+        if response.statusCode != http:STATUS_OK {
+            return error(string `Sending the batch failed with the status code ${response.statusCode}`);
+        }
+        json statuses = check response.getJsonPayload();
+        return statuses.cloneWithType();
+    }
+
+    private function sendEvent(GenericDataType event, string eventName) returns error? {
+        json payload = event.toJson();
+        http:Request request = new;
+        check self.setEventIdentifier(request, payload, eventName);
+        request.setJsonPayload(payload);
+        http:Response response = check self.httpClient->post(self.path, request);
+        if response.statusCode != http:STATUS_OK {
+            return error(string `Sending the event ${eventName} failed with the status code ${response.statusCode}`);
+        }
+    }
+
+    private function setEventIdentifier(http:Request request, json payload, string eventName) returns error? {}
+}
+
+isolated function setJsonField(json payload, string[] path, string value) returns error? {
+    map<json> current = check payload.ensureType();
+    foreach int i in 0 ..< path.length() - 1 {
+        json child = current[path[i]];
+        if child is map<json> {
+            current = child;
+        } else {
+            map<json> newChild = {};
+            current[path[i]] = newChild;
+            current = newChild;
+        }
+    }
+    current[path[path.length() - 1]] = value;
+}
@@ -1,2 +1,41 @@
-// Listener related configurations should be included here
-public type ListenerConfigs record {};
+import ballerina/http;
+import ballerinax/asyncapi.native.handler;
+
+# Configurations of the listener. The configurations of the HTTP listener are not used, when the listener is
+# initialized with an existing `http:Listener`.
+#
+# + maxPayloadSize - Maximum size of a request body as it is received, in bytes. The body is compressed when the
+# request has a Content-Encoding header
+# + maxDecompressedPayloadSize - Maximum size of a compressed request body after it is decompressed, in bytes
+# + host - Host name or the IP address the HTTP listener is bound to
+# + httpVersion - HTTP version of the listener, HTTP/2 is served over cleartext when the listener is not secured
+# + keepAlive - Whether the HTTP/1.x connections are kept alive, so that the senders can reuse them
+# + maxPipelinedRequests - Maximum number of requests which can be pipelined on an HTTP/1.x connection
+# + timeout - Period of time in seconds that a connection waits for a read or a write operation
+# + maxUriLength - Maximum length of the request URI
+# + maxHeaderSize - Maximum size of the request headers
+# + socketConfig - Options of the server socket, e.g. the backlog, the buffer sizes and TCP_NODELAY
+# + dispatchStripes - Number of the stripes which process the events with a partition key in parallel, the events
+# with the same key are always processed by the same stripe in the order they are received
+# + maxConcurrentDispatches - Maximum number of the events processed at the same time, the other events wait in a
+# queue of their priority class. The number is not limited by default, which is 0. The priorities of the events, which
+# are set with x-ballerina-priority in the spec, are ignored unless the number is limited
+# + priorityWeights - Weights of the priority classes, which decide how often the next event is taken from each queue
+# + fanOutFailureMode - Whether an event fails when any (`all`), all (`any`) or none (`best-effort`) of the services
+# of its type fail to process it, when more than one service of the type is attached
+public type ListenerConfigs record {
+    int maxPayloadSize = 10485760;
+    int maxDecompressedPayloadSize = 52428800;
+    string host = "0.0.0.0";
+    http:HttpVersion httpVersion = http:HTTP_2_0;
+    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
+    int maxPipelinedRequests = 10;
+    decimal timeout = 60;
+    int maxUriLength = 4096;
+    int maxHeaderSize = 8192;
+    http:ServerSocketConfig socketConfig = {};
+    int dispatchStripes = 16;
+    int maxConcurrentDispatches = 0;
+    handler:PriorityWeights priorityWeights = {};
+    handler:FanOutFailureMode fanOutFailureMode = "all";
+};
@@ -1,40 +1,187 @@
 import ballerina/http;
+import ballerina/io;
+import ballerina/log;
 import ballerinax/asyncapi.native.handler;
 
+// Capture mode is enabled by setting the directory to write the captured requests into
+configurable string eventCaptureDirectory = "";
+// Headers recorded with each captured request. The other headers are not recorded, so that credentials, e.g. the
+// Authorization header, are not written to the disk.
+configurable string[] eventCaptureHeaders = ["Content-Type", "Content-Encoding"];
+
 service class DispatcherService {
    *http:Service;
-   private map<GenericServiceType> services = {};
-   private handler:NativeHandler nativeHandler = new ();
+   private map<GenericServiceType[]> services = {};
+   private final handler:NativeHandler nativeHandler;
+   private final handler:FanOutFailureMode fanOutFailureMode;
+   private final handler:EventRecorder? eventRecorder;
+   private final int maxPayloadSize;
+   private final int maxDecompressedPayloadSize;
+
+   function init(ListenerConfigs configs) returns error? {
+        self.maxPayloadSize = configs.maxPayloadSize;
+        self.maxDecompressedPayloadSize = configs.maxDecompressedPayloadSize;
+        self.nativeHandler = new (configs.dispatchStripes, configs.maxConcurrentDispatches, configs.priorityWeights);
+        self.fanOutFailureMode = configs.fanOutFailureMode;
+        if eventCaptureDirectory == "" {
+             self.eventRecorder = ();
+        } else {
+             self.eventRecorder = check new handler:EventRecorder(eventCaptureDirectory);
+        }
+   }
 
    isolated function addServiceRef(string serviceType, GenericServiceType genericService) returns error? {
-        if (self.services.hasKey(serviceType)) {
-             return error("Service of type " + serviceType + " has already been attached");
+        // The list is copied, so that the events being dispatched keep using the current list
+        GenericServiceType[] services = (self.services[serviceType] ?: []).slice(0);
+        foreach GenericServiceType attachedService in services {
+             if attachedService === genericService {
+                  return error("Service of type " + serviceType + " has already been attached");
+             }
         }
-        self.services[serviceType] = genericService;
+        services.push(genericService);
+        self.services[serviceType] = services;
    }
 
-   isolated function removeServiceRef(string serviceType) returns error? {
-        if (!self.services.hasKey(serviceType)) {
+   isolated function removeServiceRef(string serviceType, GenericServiceType genericService) returns error? {
+        GenericServiceType[] services = self.services[serviceType] ?: [];
+        GenericServiceType[] remainingServices = services.filter(attachedService => attachedService !== genericService);
+        if remainingServices.length() == services.length() {
              return error("Cannot detach the service of type " + serviceType + ". Service has not been attached to the listener before");
         }
-        _ = self.services.remove(serviceType);
+        if remainingServices.length() == 0 {
+             _ = self.services.remove(serviceType);
+        } else {
+             self.services[serviceType] = remainingServices;
+        }
    }
 
    // We are not using the (@http:payload GenericEventWrapperEvent g) notation because of a bug in Ballerina.
    // Issue: https://github.com/ballerina-platform/ballerina-lang/issues/32859
    resource function post .(http:Caller caller, http:Request request) returns error? {
-       json payload = check request.getJsonPayload();
-       GenericDataType genericDataType = check payload.cloneWithType(GenericDataType);
-       check self.matchRemoteFunc(genericDataType);
+       byte[]|error body = self.readPayload(request);
+       if body is error {
+           return self.respondToRequestError(caller, body);
+       }
+       self.captureRequest(request, body);
+       json|error payload = self.getJsonPayload(request, body);
+       if payload is error {
+           return self.respondToRequestError(caller, payload);
+       }
+       check self.matchRemoteFunc(payload);
        check caller->respond(http:STATUS_OK);
    }
 
-   private function matchRemoteFunc(GenericDataType genericDataType) returns error? {}
+   private function matchRemoteFunc(json payload) returns error? {}
+
+   isolated function closeCapture() returns error? {
+        handler:EventRecorder? eventRecorder = self.eventRecorder;
+        if eventRecorder is handler:EventRecorder {
+             check eventRecorder.close();
+        }
+   }
+
+   private function captureRequest(http:Request request, byte[] body) {
+        if self.eventRecorder is () {
+             return;
+        }
+        map<string> headers = {};
+        foreach string headerName in eventCaptureHeaders {
+             string|http:HeaderNotFoundError headerValue = request.getHeader(headerName);
+             if headerValue is string {
+                  headers[headerName] = headerValue;
+             }
+        }
+        self.captureEvent(headers, body);
+   }
+
+   // The event is dispatched even when it could not be captured
+   private function captureEvent(map<string> headers, byte[] body) {
+        handler:EventRecorder? eventRecorder = self.eventRecorder;
+        if eventRecorder is () {
+             return;
+        }
+        error? captured = eventRecorder.append(headers, body);
+        if captured is error {
+             log:printError("Failed to capture the event", 'error = captured);
+        }
+   }
+
+   // Responds with 413 to a request with a body which is too large, and with 400 to a request with a malformed body.
+   // The other errors are returned, so that the client receives 500.
+   private function respondToRequestError(http:Caller caller, error err) returns error? {
+        int statusCode;
+        if err is handler:PayloadTooLargeError {
+             statusCode = http:STATUS_PAYLOAD_TOO_LARGE;
+        } else if err is handler:InvalidPayloadError {
+             statusCode = http:STATUS_BAD_REQUEST;
+        } else {
+             return err;
+        }
+        http:Response response = new;
+        response.statusCode = statusCode;
+        response.setTextPayload(err.message());
+        check caller->respond(response);
+   }
+
+   // Reads the body of a request, without buffering more than the maximum payload size
+   private function readPayload(http:Request request) returns byte[]|error {
+        string|http:HeaderNotFoundError contentLength = request.getHeader("Content-Length");
+        if contentLength is string {
+             int|error length = int:fromString(contentLength.trim());
+             if length is error {
+                  return error handler:InvalidPayloadError("Content-Length header is not a valid number: " + contentLength);
+             }
+             if length > self.maxPayloadSize {
+                  return error handler:PayloadTooLargeError("Payload is larger than the maximum payload size of " + self.maxPayloadSize.toString() + " bytes");
+             }
+        }
+        byte[] payload = [];
+        stream<byte[], io:Error?> byteStream = check request.getByteStream();
+        while true {
+             record {|byte[] value;|}? chunk = check byteStream.next();
+             if chunk is () {
+                  break;
+             }
+             if payload.length() + chunk.value.length() > self.maxPayloadSize {
+                  check byteStream.close();
+                  return error handler:PayloadTooLargeError("Payload is larger than the maximum payload size of " + self.maxPayloadSize.toString() + " bytes");
+             }
+             payload.push(...chunk.value);
+        }
+        return payload;
+   }
+
+   // Decompresses the body of a request, when it is compressed with gzip or deflate
+   private function decodePayload(http:Request request, byte[] body) returns byte[]|error {
+        string|http:HeaderNotFoundError contentEncoding = request.getHeader("Content-Encoding");
+        if contentEncoding is http:HeaderNotFoundError || contentEncoding.trim().equalsIgnoreCaseAscii("identity") {
+             return body;
+        }
+        return handler:decompress(body, contentEncoding, self.maxDecompressedPayloadSize);
+   }
+
+   private function getJsonPayload(http:Request request, byte[] body) returns json|error {
+        return handler:decodeJson(check self.decodePayload(request, body));
+   }
 
-   private function executeRemoteFunc(GenericDataType genericEvent, string eventName, string serviceTypeStr, string eventFunction) returns error? {
-         GenericServiceType? genericService = self.services[serviceTypeStr];
-         if genericService is GenericServiceType {
-              check self.nativeHandler.invokeRemoteFunction(genericEvent, eventName, eventFunction, genericService);
-         }
+   // The event is converted into a readonly value once, in the match clause, and the same value is shared by all the
+   // services of the type
+   private function executeRemoteFunc(readonly & GenericDataType genericEvent, string eventName, string serviceTypeStr, string eventFunction, handler:Priority priority = handler:NORMAL) returns error? {
+        GenericServiceType[] genericServices = self.services[serviceTypeStr] ?: [];
+        if genericServices.length() == 1 {
+             check self.nativeHandler.invokeRemoteFunction(genericEvent, eventName, eventFunction, genericServices[0], priority);
+        } else if genericServices.length() > 1 {
+             check self.nativeHandler.invokeRemoteFunctions(genericEvent, eventName, eventFunction, genericServices, self.fanOutFailureMode, priority);
+        }
+   }
+
+   // Events with the same partition key are processed one after the other, in the order they are received
+   private function executeRemoteFuncInOrder(readonly & GenericDataType genericEvent, string partitionKey, string eventName, string serviceTypeStr, string eventFunction, handler:Priority priority = handler:NORMAL) returns error? {
+        GenericServiceType[] genericServices = self.services[serviceTypeStr] ?: [];
+        if genericServices.length() == 1 {
+             check self.nativeHandler.invokeRemoteFunctionInOrder(genericEvent, partitionKey, eventName, eventFunction, genericServices[0], priority);
+        } else if genericServices.length() > 1 {
+             check self.nativeHandler.invokeRemoteFunctionsInOrder(genericEvent, partitionKey, eventName, eventFunction, genericServices, self.fanOutFailureMode, priority);
+        }
    }
 }
@@ -0,0 +1,101 @@
+// Whether the events of a batch are dispatched in parallel, instead of one after the other
+configurable boolean batchParallelDispatch = false;
+// Maximum number of the events of a batch dispatched at the same time, when they are dispatched in parallel
+configurable int batchMaxParallelDispatches = 16;
+
+const NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+# Status of an event in a batch request.
+#
+# + index - Position of the event in the batch
+# + success - Whether the event was dispatched successfully
+# + message - Reason of the failure, when the event could not be dispatched
+public type BatchItemStatus record {|
+   int index;
+   boolean success;
+   string message?;
+|};
+
+service class DispatcherService {
+   // Accepts a JSON array of events, or one event per line when the content type is application/x-ndjson.
+   // A failed event does not fail the others, the response contains the status of each event in the batch.
+   resource function post batch(http:Caller caller, http:Request request) returns error? {
+       byte[]|error body = self.readPayload(request);
+       if body is error {
+           return self.respondToRequestError(caller, body);
+       }
+       self.captureRequest(request, body);
+       byte[]|error decodedBody = self.decodePayload(request, body);
+       if decodedBody is error {
+           return self.respondToRequestError(caller, decodedBody);
+       }
+       json[]|handler:InvalidPayloadError payloads = getBatchPayloads(request.getContentType(), decodedBody);
+       if payloads is handler:InvalidPayloadError {
+           return self.respondToRequestError(caller, payloads);
+       }
+       BatchItemStatus[] statuses = [];
+       if batchParallelDispatch {
+           int windowSize = batchMaxParallelDispatches < 1 ? 1 : batchMaxParallelDispatches;
+           future<error?>[] dispatches = [];
+           foreach json event in payloads {
+               if dispatches.length() >= windowSize {
+                   future<error?> oldest = dispatches.shift();
+                   error? result = wait oldest;
+                   statuses.push(getBatchItemStatus(statuses.length(), result));
+               }
+               future<error?> dispatch = start self.matchRemoteFunc(event);
+               dispatches.push(dispatch);
+           }
+           foreach future<error?> dispatch in dispatches {
+               error? result = wait dispatch;
+               statuses.push(getBatchItemStatus(statuses.length(), result));
+           }
+       } else {
+           foreach int i in 0 ..< payloads.length() {
+               statuses.push(getBatchItemStatus(i, self.matchRemoteFunc(payloads[i])));
+           }
+       }
+       check caller->respond(statuses.toJson());
+   }
+}
+
+// A body which is not a JSON array of events, or not one event per line, is a malformed request
+isolated function getBatchPayloads(string contentType, byte[] body) returns json[]|handler:InvalidPayloadError {
+    if contentType.startsWith(NDJSON_CONTENT_TYPE) {
+        string|error payload = string:fromBytes(body);
+        if payload is error {
+            return error handler:InvalidPayloadError("Payload is not valid UTF-8: " + payload.message());
+        }
+        json[] payloads = [];
+        int lineStart = 0;
+        int lineNumber = 1;
+        while lineStart < payload.length() {
+            int? newLineIndex = payload.indexOf("\n", lineStart);
+            int lineEnd = newLineIndex is int ? newLineIndex : payload.length();
+            string line = payload.substring(lineStart, lineEnd).trim();
+            if line != "" {
+                json|error event = line.fromJsonString();
+                if event is error {
+                    return error handler:InvalidPayloadError("Line " + lineNumber.toString()
+                        + " of the payload is not valid JSON: " + event.message());
+                }
+                payloads.push(event);
+            }
+            lineStart = lineEnd + 1;
+            lineNumber += 1;
+        }
+        return payloads;
+    }
+    json payloads = check handler:decodeJson(body);
+    if payloads is json[] {
+        return payloads;
+    }
+    return error handler:InvalidPayloadError("Payload of a batch request should be a JSON array of events");
+}
+
+isolated function getBatchItemStatus(int index, error? result) returns BatchItemStatus {
+    if result is error {
+        return {index, success: false, message: result.message()};
+    }
+    return {index, success: true};
+}
@@ -0,0 +1,87 @@
+import ballerina/http;
+import ballerina/websocket;
+import ballerinax/asyncapi.native.handler;
+
+// Number of the events received over a WebSocket connection which are acknowledged together, 1 acknowledges each
+// event as soon as it is dispatched
+configurable int websocketAckWindow = 1;
+
+# Acknowledgement of the events received over a WebSocket connection. An empty message requests the acknowledgement
+# of the events received after the last acknowledgement, e.g. at the end of a stream.
+#
+# + sequence - Number of the events received over the connection so far, all of them are acknowledged
+# + failures - Events received after the last acknowledgement which could not be dispatched
+public type EventAck record {|
+   int sequence;
+   EventFailure[] failures;
+|};
+
+# An event received over a WebSocket connection, which could not be dispatched.
+#
+# + sequence - Position of the event in the events received over the connection, starting from 1
+# + message - Reason of the failure
+public type EventFailure record {|
+   int sequence;
+   string message;
+|};
+
+service class DispatcherService {
+   // An event received over a WebSocket connection is limited and captured like the body of a request. It is never
+   // compressed, a compressed WebSocket message is already inflated by the WebSocket listener, so the maximum
+   // payload size applies to the inflated event.
+   function dispatchEvent(string text) returns error? {
+        byte[] body = text.toBytes();
+        if body.length() > self.maxPayloadSize {
+             return error handler:PayloadTooLargeError("Event is larger than the maximum payload size of " + self.maxPayloadSize.toString() + " bytes");
+        }
+        self.captureEvent({"Content-Type": "application/json"}, body);
+        check self.matchRemoteFunc(check handler:decodeJson(body));
+   }
+}
+
+service class WebSocketUpgradeService {
+   *websocket:UpgradeService;
+   private final DispatcherService dispatcherService;
+
+   function init(DispatcherService dispatcherService) {
+        self.dispatcherService = dispatcherService;
+   }
+
+   resource function get .(http:Request request) returns websocket:Service|websocket:UpgradeError {
+        return new WebSocketEventService(self.dispatcherService);
+   }
+}
+
+// Receives the events of a WebSocket connection, where each text message is an event
+service class WebSocketEventService {
+   *websocket:Service;
+   private final DispatcherService dispatcherService;
+   private int received = 0;
+   private int acknowledged = 0;
+   private EventFailure[] failures = [];
+
+   function init(DispatcherService dispatcherService) {
+        self.dispatcherService = dispatcherService;
+   }
+
+   remote function onTextMessage(websocket:Caller caller, string text) returns error? {
+        if text.trim() == "" {
+             return self.acknowledge(caller);
+        }
+        self.received += 1;
+        error? result = self.dispatcherService.dispatchEvent(text);
+        if result is error {
+             self.failures.push({sequence: self.received, message: result.message()});
+        }
+        if self.received - self.acknowledged >= websocketAckWindow {
+             check self.acknowledge(caller);
+        }
+   }
+
+   private function acknowledge(websocket:Caller caller) returns error? {
+        EventAck ack = {sequence: self.received, failures: self.failures};
+        self.failures = [];
+        self.acknowledged = self.received;
+        check caller->writeTextMessage(ack.toJsonString());
+   }
+}
@@ -7,13 +7,13 @@ public class Listener {
     private http:Listener httpListener;
     private DispatcherService dispatcherService;
 
-    public function init(int|http:Listener listenOn = 8090) returns error? {
+    public function init(int|http:Listener listenOn = 8090, *ListenerConfigs configs) returns error? {
         if listenOn is http:Listener {
             self.httpListener = listenOn;
         } else {
-            self.httpListener = check new (listenOn);
+            self.httpListener = check new (listenOn, getHttpListenerConfigs(configs));
         }
-        self.dispatcherService = new DispatcherService();
+        self.dispatcherService = check new DispatcherService(configs);
     }
 
     public isolated function attach(GenericServiceType serviceRef, () attachPoint) returns @tainted error? {
@@ -23,7 +23,7 @@ public class Listener {
 
     public isolated function detach(GenericServiceType serviceRef) returns error? {
         string serviceTypeStr = self.getServiceTypeStr(serviceRef);
-        check self.dispatcherService.removeServiceRef(serviceTypeStr);
+        check self.dispatcherService.removeServiceRef(serviceTypeStr, serviceRef);
     }
 
     public isolated function 'start() returns error? {
@@ -32,12 +32,40 @@ public class Listener {
     }
 
     public isolated function gracefulStop() returns @tainted error? {
-        return self.httpListener.gracefulStop();
+        error? httpResult = self.httpListener.gracefulStop();
+        error? captureResult = self.dispatcherService.closeCapture();
+        if httpResult is error {
+            return httpResult;
+        }
+        return captureResult;
     }
 
     public isolated function immediateStop() returns error? {
-        return self.httpListener.immediateStop();
+        error? httpResult = self.httpListener.immediateStop();
+        error? captureResult = self.dispatcherService.closeCapture();
+        if httpResult is error {
+            return httpResult;
+        }
+        return captureResult;
     }
 
     private isolated function getServiceTypeStr(GenericServiceType serviceRef) returns string {}
 }
+
+isolated function getHttpListenerConfigs(ListenerConfigs configs) returns http:ListenerConfiguration {
+    return {
+        host: configs.host,
+        httpVersion: configs.httpVersion,
+        http1Settings: {
+            keepAlive: configs.keepAlive,
+            maxPipelinedRequests: configs.maxPipelinedRequests
+        },
+        timeout: configs.timeout,
+        requestLimits: {
+            maxUriLength: configs.maxUriLength,
+            maxHeaderSize: configs.maxHeaderSize,
+            maxEntityBodySize: configs.maxPayloadSize
+        },
+        socketConfig: configs.socketConfig
+    };
+}
@@ -0,0 +1,52 @@
+import ballerina/http;
+import ballerina/websocket;
+
+// Path of the WebSocket endpoint, which accepts the events over persistent connections
+configurable string websocketPath = "events";
+
+public class Listener {
+   private websocket:Listener websocketListener;
+
+   public function init(int|http:Listener listenOn = 8090, *ListenerConfigs configs) returns error? {
+        if listenOn is http:Listener {
+             self.httpListener = listenOn;
+        } else {
+             self.httpListener = check new (listenOn, getHttpListenerConfigs(configs));
+        }
+        self.websocketListener = check new (self.httpListener);
+        self.dispatcherService = check new DispatcherService(configs);
+   }
+
+   public isolated function 'start() returns error? {
+        check self.httpListener.attach(self.dispatcherService, ());
+        check self.websocketListener.attach(new WebSocketUpgradeService(self.dispatcherService), websocketPath);
+        check self.websocketListener.'start();
+        return self.httpListener.'start();
+   }
+
+   public isolated function gracefulStop() returns @tainted error? {
+        error? websocketResult = self.websocketListener.gracefulStop();
+        error? httpResult = self.httpListener.gracefulStop();
+        error? captureResult = self.dispatcherService.closeCapture();
+        if websocketResult is error {
+             return websocketResult;
+        }
+        if httpResult is error {
+             return httpResult;
+        }
+        return captureResult;
+   }
+
+   public isolated function immediateStop() returns error? {
+        error? websocketResult = self.websocketListener.immediateStop();
+        error? httpResult = self.httpListener.immediateStop();
+        error? captureResult = self.dispatcherService.closeCapture();
+        if websocketResult is error {
+             return websocketResult;
+        }
+        if httpResult is error {
+             return httpResult;
+        }
+        return captureResult;
+   }
+}
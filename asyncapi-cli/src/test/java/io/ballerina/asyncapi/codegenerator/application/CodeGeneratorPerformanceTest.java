@@ -0,0 +1,325 @@
+/*
+ *  Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.application;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Performance regression gate for the code generation. Each spec is generated repeatedly and the median
+ * generation time and the median allocated bytes are compared with the baselines recorded in the file given with
+ * `asyncapi.perf.baselines`, which is `src/test/resources/performance/baselines.properties` by default. A spec
+ * without a baseline is skipped, so the gate only compares the specs whose baselines are recorded on the machine
+ * which runs it.
+ * <p>
+ * The generation time is recorded relative to a fixed calibration workload measured in the same JVM, so that the
+ * baselines can be compared across machines. A regression is only reported when it is seen in two consecutive
+ * measurement rounds. The following system properties control the gate:
+ * <ul>
+ *     <li>`asyncapi.perf.record` - record the current measurements as the new baselines</li>
+ *     <li>`asyncapi.perf.baselines` - path of the baselines file</li>
+ *     <li>`asyncapi.perf.timeThreshold` - allowed relative increase of the generation time (default 0.20)</li>
+ *     <li>`asyncapi.perf.allocationThreshold` - allowed relative increase of the allocated bytes (default 0.10)</li>
+ *     <li>`asyncapi.perf.iterations` - measured iterations per round (default 15)</li>
+ * </ul>
+ */
+public class CodeGeneratorPerformanceTest {
+    private static final String BASELINES_PROPERTY = "asyncapi.perf.baselines";
+    private static final String DEFAULT_BASELINES_PATH = "src/test/resources/performance/baselines.properties";
+    private static final String TIME_SUFFIX = ".relativeTime";
+    private static final String ALLOCATION_SUFFIX = ".allocatedBytes";
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int CALIBRATION_ITERATIONS = 7;
+
+    private final FileRepository fileRepository = new FileRepositoryImpl();
+    private final Properties baselines = new Properties();
+    private final Map<String, String> recordedBaselines = new TreeMap<>();
+    private final boolean recordMode = Boolean.getBoolean("asyncapi.perf.record");
+    private final double timeThreshold = Double.parseDouble(
+            System.getProperty("asyncapi.perf.timeThreshold", "0.20"));
+    private final double allocationThreshold = Double.parseDouble(
+            System.getProperty("asyncapi.perf.allocationThreshold", "0.10"));
+    private final int iterations = Integer.getInteger("asyncapi.perf.iterations", 15);
+    private final Path baselinesPath = Paths.get(System.getProperty(BASELINES_PROPERTY, DEFAULT_BASELINES_PATH));
+    private HeapAllocationMeter allocationMeter;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        allocationMeter = new HeapAllocationMeter();
+        if (Files.exists(baselinesPath)) {
+            try (BufferedReader reader = Files.newBufferedReader(baselinesPath, StandardCharsets.UTF_8)) {
+                baselines.load(reader);
+            }
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void closeAllocationMeter() {
+        if (allocationMeter != null) {
+            allocationMeter.close();
+        }
+    }
+
+    @AfterClass
+    public void recordBaselines() throws IOException {
+        if (!recordMode) {
+            return;
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add("# Recorded by CodeGeneratorPerformanceTest with -Dasyncapi.perf.record=true");
+        lines.add("# Generation time is relative to the calibration workload, allocations are in bytes");
+        recordedBaselines.forEach((key, value) -> lines.add(key + "=" + value));
+        Files.createDirectories(baselinesPath.toAbsolutePath().getParent());
+        Files.write(baselinesPath, lines, StandardCharsets.UTF_8);
+    }
+
+    @DataProvider(name = "specs")
+    public Object[][] specs() throws BallerinaAsyncApiException {
+        return new Object[][]{
+                {"spec-complete-slack", "spec.yaml",
+                        fileRepository.getFileContentFromResources("specs/spec-complete-slack.yml")},
+                {"synthetic-scale-1", "spec.json", SyntheticSpecGenerator.ofScale(1).generate()},
+                {"synthetic-scale-4", "spec.json", SyntheticSpecGenerator.ofScale(4).generate()}
+        };
+    }
+
+    @Test(description = "Test that the code generation is not slower or more allocation heavy than the baseline",
+            dataProvider = "specs")
+    public void testGenerationAgainstBaseline(String specName, String specPath, String specContent)
+            throws BallerinaAsyncApiException {
+        Result result = measure(specPath, specContent);
+        Reporter.log(String.format(Locale.ENGLISH, "%s: relative time %.4f, allocated %d bytes",
+                specName, result.relativeTime, result.allocatedBytes), true);
+
+        if (recordMode) {
+            recordedBaselines.put(specName + TIME_SUFFIX, String.format(Locale.ENGLISH, "%.4f", result.relativeTime));
+            recordedBaselines.put(specName + ALLOCATION_SUFFIX, String.valueOf(result.allocatedBytes));
+            return;
+        }
+        String baselineTime = baselines.getProperty(specName + TIME_SUFFIX);
+        String baselineAllocation = baselines.getProperty(specName + ALLOCATION_SUFFIX);
+        if (baselineTime == null || baselineAllocation == null) {
+            throw new SkipException("No baseline recorded for " + specName + " in " + baselinesPath
+                    + ", run with -Dasyncapi.perf.record=true to record it");
+        }
+
+        if (isRegressed(result, baselineTime, baselineAllocation)) {
+            // Confirm with a second round before failing, so that a single noisy round does not fail the build
+            Result retry = measure(specPath, specContent);
+            result = new Result(Math.min(result.relativeTime, retry.relativeTime),
+                    Math.min(result.allocatedBytes, retry.allocatedBytes));
+        }
+        double maxTime = Double.parseDouble(baselineTime) * (1 + timeThreshold);
+        double maxAllocation = Long.parseLong(baselineAllocation) * (1 + allocationThreshold);
+        Assert.assertTrue(result.relativeTime <= maxTime, String.format(Locale.ENGLISH,
+                "Generation time of %s regressed: %.4f against the baseline %s (threshold %.0f%%)",
+                specName, result.relativeTime, baselineTime, timeThreshold * 100));
+        Assert.assertTrue(result.allocatedBytes <= maxAllocation, String.format(Locale.ENGLISH,
+                "Allocated bytes of %s regressed: %d against the baseline %s (threshold %.0f%%)",
+                specName, result.allocatedBytes, baselineAllocation, allocationThreshold * 100));
+    }
+
+    private boolean isRegressed(Result result, String baselineTime, String baselineAllocation) {
+        return result.relativeTime > Double.parseDouble(baselineTime) * (1 + timeThreshold)
+                || result.allocatedBytes > Long.parseLong(baselineAllocation) * (1 + allocationThreshold);
+    }
+
+    private Result measure(String specPath, String specContent) throws BallerinaAsyncApiException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            generate(specPath, specContent);
+        }
+        long[] nanos = new long[iterations];
+        long[] allocations = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long allocatedBefore = allocationMeter.getAllocatedBytes();
+            long start = System.nanoTime();
+            generate(specPath, specContent);
+            nanos[i] = System.nanoTime() - start;
+            allocations[i] = allocationMeter.getAllocatedBytes() - allocatedBefore;
+        }
+        return new Result((double) median(nanos) / calibrate(), median(allocations));
+    }
+
+    private void generate(String specPath, String specContent) throws BallerinaAsyncApiException {
+        new CodeGenerator(new MockFileRepositoryImpl(specContent)).generate(specPath, "/");
+    }
+
+    /**
+     * Measure a fixed workload which mixes allocation, hashing and sorting, used as the unit of the generation
+     * time so that the baselines do not depend on the speed of the machine.
+     */
+    private long calibrate() {
+        long[] nanos = new long[CALIBRATION_ITERATIONS];
+        for (int i = 0; i < CALIBRATION_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            List<String> values = new ArrayList<>();
+            for (int j = 0; j < 200_000; j++) {
+                values.add(Integer.toHexString((j * 31) ^ (j >>> 3)));
+            }
+            Collections.sort(values);
+            Map<String, Integer> counts = new TreeMap<>();
+            values.forEach(value -> counts.merge(value.substring(0, 1), 1, Integer::sum));
+            nanos[i] = System.nanoTime() - start + (counts.isEmpty() ? 1 : 0);
+        }
+        return Math.max(1, median(nanos));
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = Arrays.copyOf(values, values.length);
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    /**
+     * Measures the bytes allocated on the heap by all the threads, including the short-lived threads which read the
+     * referenced documents in parallel, which the per-thread allocation counters lose once the threads end. The heap
+     * usage only grows by allocation and only shrinks by garbage collection, so the bytes allocated so far are the
+     * current heap usage plus the bytes freed by all the collections since the meter was created. The heap usage
+     * includes the unused part of the thread local allocation buffers, so the result is accurate to a few buffers.
+     */
+    private static class HeapAllocationMeter implements NotificationListener {
+        private static final long NOTIFICATION_TIMEOUT_MILLIS = 2000;
+        private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        private final Set<String> heapPoolNames = new HashSet<>();
+        private final long initialCollections;
+        private long freedBytes = 0;
+        private long notifiedCollections = 0;
+
+        HeapAllocationMeter() {
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    heapPoolNames.add(pool.getName());
+                }
+            }
+            for (GarbageCollectorMXBean collector : collectors) {
+                ((NotificationEmitter) collector).addNotificationListener(this, null, null);
+            }
+            initialCollections = getCollectionCount();
+        }
+
+        @Override
+        public synchronized void handleNotification(Notification notification, Object handback) {
+            if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                return;
+            }
+            GcInfo gcInfo = GarbageCollectionNotificationInfo
+                    .from((CompositeData) notification.getUserData()).getGcInfo();
+            freedBytes += getHeapUsage(gcInfo.getMemoryUsageBeforeGc()) - getHeapUsage(gcInfo.getMemoryUsageAfterGc());
+            notifiedCollections++;
+            notifyAll();
+        }
+
+        /**
+         * Get the bytes allocated since the meter was created, after the notifications of all the collections so
+         * far are received, since they are delivered asynchronously.
+         */
+        synchronized long getAllocatedBytes() {
+            long deadline = System.currentTimeMillis() + NOTIFICATION_TIMEOUT_MILLIS;
+            while (notifiedCollections < getCollectionCount() - initialCollections
+                    && System.currentTimeMillis() < deadline) {
+                try {
+                    wait(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() + freedBytes;
+        }
+
+        void close() {
+            for (GarbageCollectorMXBean collector : collectors) {
+                try {
+                    ((NotificationEmitter) collector).removeNotificationListener(this);
+                } catch (ListenerNotFoundException e) {
+                    // The listener was not added to this collector
+                }
+            }
+        }
+
+        private long getCollectionCount() {
+            long count = 0;
+            for (GarbageCollectorMXBean collector : collectors) {
+                count += Math.max(0, collector.getCollectionCount());
+            }
+            return count;
+        }
+
+        private long getHeapUsage(Map<String, MemoryUsage> usageByPool) {
+            long used = 0;
+            for (Map.Entry<String, MemoryUsage> usage : usageByPool.entrySet()) {
+                if (heapPoolNames.contains(usage.getKey())) {
+                    used += usage.getValue().getUsed();
+                }
+            }
+            return used;
+        }
+    }
+
+    /**
+     * Result of a measurement round.
+     */
+    private static class Result {
+        private final double relativeTime;
+        private final long allocatedBytes;
+
+        Result(double relativeTime, long allocatedBytes) {
+            this.relativeTime = relativeTime;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ *  Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.application;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.controller.AsyncApiSpecController;
+import io.ballerina.asyncapi.codegenerator.controller.BalController;
+import io.ballerina.asyncapi.codegenerator.controller.SchemaController;
+import io.ballerina.asyncapi.codegenerator.controller.SpecController;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Test how the code generation scales with the size of the AsyncAPI specification. Each scale generates a
+ * synthetic spec, runs the code generator on it and records the time and the peak heap usage, so that
+ * super-linear behaviour in the spec reading, the schema generation or the formatting can be detected.
+ * <p>
+ * The test runs in the performance suite. The scales can be overridden with the system property
+ * `asyncapi.scaling.scales` (e.g. `1,10,40`). The measurements are only reported, unless the allowed growth of the
+ * per-event cost between the smallest and the largest scale is given with `asyncapi.scaling.maxGrowth`, since the
+ * wall-clock time and the peak heap are too noisy on shared machines to fail a build by default. The report is
+ * written into the directory given with `asyncapi.reportsDir`.
+ */
+public class CodeGeneratorScalabilityTest {
+    private static final String SCALES_PROPERTY = "asyncapi.scaling.scales";
+    private static final String MAX_GROWTH_PROPERTY = "asyncapi.scaling.maxGrowth";
+    private static final String REPORTS_DIR_PROPERTY = "asyncapi.reportsDir";
+    private static final String REPORT_FILE_NAME = "scaling/code-generator-scaling.csv";
+
+    private final FileRepository fileRepository = new FileRepositoryImpl();
+    private final List<Measurement> measurements = new ArrayList<>();
+    private Path tmpDir;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        this.tmpDir = Files.createTempDirectory("asyncapi-scaling-test-out-" + System.nanoTime());
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        Files.walk(this.tmpDir)
+                .sorted(Comparator.reverseOrder())
+                .forEach(path -> {
+                    try {
+                        Files.delete(path);
+                    } catch (IOException e) {
+                        Assert.fail(e.getMessage(), e);
+                    }
+                });
+    }
+
+    @Test(description = "Test that the code generation time and the peak heap grow linearly with the spec size")
+    public void testGenerateScalesLinearly() throws BallerinaAsyncApiException, IOException {
+        List<Integer> scales = Arrays.stream(System.getProperty(SCALES_PROPERTY, "1,2,4,8").split(","))
+                .map(String::trim).map(Integer::parseInt).sorted().collect(Collectors.toList());
+
+        // Warm up the JIT so that the smallest scale is not dominated by the class loading and the interpreter
+        measure(scales.get(0));
+        measurements.clear();
+        for (int scale : scales) {
+            measurements.add(measure(scale));
+        }
+        writeReport();
+
+        Measurement smallest = measurements.get(0);
+        Measurement largest = measurements.get(measurements.size() - 1);
+        if (largest.eventCount == smallest.eventCount) {
+            return;
+        }
+        double timeGrowth = largest.getTotalNanosPerEvent() / smallest.getTotalNanosPerEvent();
+        double heapGrowth = largest.getPeakHeapPerEvent() / smallest.getPeakHeapPerEvent();
+        Reporter.log(String.format(Locale.ENGLISH, "Per-event generation time grew %.2fx and peak heap grew %.2fx "
+                + "from scale %d to scale %d", timeGrowth, heapGrowth, smallest.scale, largest.scale), true);
+        String maxGrowthValue = System.getProperty(MAX_GROWTH_PROPERTY);
+        if (maxGrowthValue == null) {
+            return;
+        }
+        double maxGrowth = Double.parseDouble(maxGrowthValue);
+        Assert.assertTrue(timeGrowth <= maxGrowth, String.format(Locale.ENGLISH,
+                "Generation time per event grew %.2fx from scale %d to scale %d, which is more than the allowed %.2fx",
+                timeGrowth, smallest.scale, largest.scale, maxGrowth));
+        Assert.assertTrue(heapGrowth <= maxGrowth, String.format(Locale.ENGLISH,
+                "Peak heap per event grew %.2fx from scale %d to scale %d, which is more than the allowed %.2fx",
+                heapGrowth, smallest.scale, largest.scale, maxGrowth));
+    }
+
+    private Measurement measure(int scale) throws BallerinaAsyncApiException, IOException {
+        SyntheticSpecGenerator specGenerator = SyntheticSpecGenerator.ofScale(scale);
+        String spec = specGenerator.generate();
+        Path specPath = tmpDir.resolve("synthetic-spec-" + scale + ".json");
+        Files.write(specPath, spec.getBytes(StandardCharsets.UTF_8));
+        Path outputPath = Files.createDirectories(tmpDir.resolve("out-" + scale));
+
+        Measurement measurement = new Measurement(scale, specGenerator.getEventCount(), spec.length());
+
+        // Phases which are known to be sensitive to the spec size, measured on their own
+        long start = System.nanoTime();
+        SpecController specController = new AsyncApiSpecController(spec);
+        measurement.specNanos = System.nanoTime() - start;
+
+        String dataTypesTemplate = fileRepository.getFileContentFromResources(Constants.DATA_TYPES_BAL_FILE_NAME);
+        start = System.nanoTime();
+        BalController schemaController = new SchemaController(specController.getSchemas());
+        schemaController.generateBalCode(dataTypesTemplate);
+        measurement.dataTypesNanos = System.nanoTime() - start;
+
+        // End to end generation, including the file writes
+        long baselineHeap = resetPeakHeap();
+        start = System.nanoTime();
+        new CodeGenerator().generate(specPath.toString(), outputPath.toString());
+        measurement.totalNanos = System.nanoTime() - start;
+        measurement.peakHeapBytes = Math.max(1, getPeakHeap() - baselineHeap);
+        return measurement;
+    }
+
+    private long resetPeakHeap() {
+        System.gc();
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+                used += pool.getUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    private long getPeakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private void writeReport() throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("scale,events,spec_chars,spec_ms,data_types_ms,total_ms,peak_heap_mb");
+        for (Measurement measurement : measurements) {
+            lines.add(measurement.toCsv());
+        }
+        lines.forEach(line -> Reporter.log(line, true));
+        String reportsDir = System.getProperty(REPORTS_DIR_PROPERTY);
+        if (reportsDir == null) {
+            return;
+        }
+        Path reportPath = Paths.get(reportsDir, REPORT_FILE_NAME);
+        Files.createDirectories(reportPath.getParent());
+        Files.write(reportPath, lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Measurements of a single code generation run.
+     */
+    private static class Measurement {
+        private final int scale;
+        private final int eventCount;
+        private final int specLength;
+        private long specNanos;
+        private long dataTypesNanos;
+        private long totalNanos;
+        private long peakHeapBytes;
+
+        Measurement(int scale, int eventCount, int specLength) {
+            this.scale = scale;
+            this.eventCount = eventCount;
+            this.specLength = specLength;
+        }
+
+        double getTotalNanosPerEvent() {
+            return (double) totalNanos / eventCount;
+        }
+
+        double getPeakHeapPerEvent() {
+            return (double) peakHeapBytes / eventCount;
+        }
+
+        String toCsv() {
+            return String.format(Locale.ENGLISH, "%d,%d,%d,%.1f,%.1f,%.1f,%.1f", scale, eventCount, specLength,
+                    specNanos / 1e6, dataTypesNanos / 1e6, totalNanos / 1e6, peakHeapBytes / (1024.0 * 1024.0));
+        }
+    }
+}
@@ -19,6 +19,8 @@
 package io.ballerina.asyncapi.codegenerator.application;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.CodegenOptions;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -35,6 +37,30 @@ public class CodeGeneratorTest {
         Assert.assertEquals(mockRepository.getWriteCount(), 4);
     }
 
+    @Test(description = "Test the functionality of the 'generate' function when the client generation is enabled")
+    public void testGenerateWithClient() throws BallerinaAsyncApiException {
+        MockFileRepositoryImpl mockRepository = new MockFileRepositoryImpl();
+        CodeGenerator codeGenerator = new CodeGenerator(mockRepository);
+        CodegenOptions options = new CodegenOptions();
+        options.setGenerateClient(true);
+        codeGenerator.generate("test.yaml", "/", options);
+
+        Assert.assertEquals(mockRepository.getWriteCount(), 5);
+    }
+
+    @Test(description = "Test the functionality of the generate function " +
+            "when the batch endpoint is enabled and the event identifier is in a header",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "Batch endpoint requires the event identifier to be in the body.*")
+    public void testGenerateBatchEndpointWithEventIdentifierInHeader() throws BallerinaAsyncApiException {
+        MockFileRepositoryImpl mockRepository = new MockFileRepositoryImpl(new FileRepositoryImpl()
+                .getFileContentFromResources("specs/spec-with-event-identifier-valid-header-type.yml"));
+        CodeGenerator codeGenerator = new CodeGenerator(mockRepository);
+        CodegenOptions options = new CodegenOptions();
+        options.setBatchEndpoint(true);
+        codeGenerator.generate("test.yaml", "/", options);
+    }
+
     @Test(description = "Test the functionality of the generate function " +
             "when AsyncAPI spec file has a different file extension than .yaml, .yml or .json",
             expectedExceptions = BallerinaAsyncApiException.class,
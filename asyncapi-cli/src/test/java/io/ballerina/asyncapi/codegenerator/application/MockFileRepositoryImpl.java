@@ -27,10 +27,27 @@ import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
  */
 public class MockFileRepositoryImpl implements FileRepository {
     private final FileRepository fileRepository = new FileRepositoryImpl();
+    private final String specContent;
     private int writeCount = 0;
 
+    public MockFileRepositoryImpl() {
+        this.specContent = null;
+    }
+
+    /**
+     * Constructor override, which serves the given content as the AsyncAPI spec instead of the Slack spec.
+     *
+     * @param specContent content of the AsyncAPI spec
+     */
+    public MockFileRepositoryImpl(String specContent) {
+        this.specContent = specContent;
+    }
+
     @Override
     public String getFileContent(String filePath) throws BallerinaAsyncApiException {
+        if (specContent != null) {
+            return specContent;
+        }
         return fileRepository
                 .getFileContentFromResources("specs/spec-complete-slack.yml");
     }
@@ -0,0 +1,201 @@
+/*
+ *  Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Generates synthetic AsyncAPI 2.x documents of a configurable size, used to test how the code generation
+ * scales with the size of the specification.
+ */
+public class SyntheticSpecGenerator {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int channelCount;
+    private final int messagesPerChannel;
+    private final int schemaCount;
+    private final int nestingDepth;
+    private final int enumSize;
+    private final int refFanIn;
+
+    /**
+     * Constructor for the synthetic spec generator.
+     *
+     * @param channelCount       number of channels (service types) in the spec
+     * @param messagesPerChannel number of `oneOf` messages (remote functions) under each channel
+     * @param schemaCount        number of shared schemas under `components.schemas`, apart from the event schemas
+     * @param nestingDepth       depth of the nested inline objects inside each schema
+     * @param enumSize           number of values in each enum schema
+     * @param refFanIn           number of `$ref` properties each event schema holds to the shared schemas
+     */
+    public SyntheticSpecGenerator(int channelCount, int messagesPerChannel, int schemaCount, int nestingDepth,
+                                  int enumSize, int refFanIn) {
+        this.channelCount = channelCount;
+        this.messagesPerChannel = messagesPerChannel;
+        this.schemaCount = Math.max(1, schemaCount);
+        this.nestingDepth = nestingDepth;
+        this.enumSize = Math.max(1, enumSize);
+        this.refFanIn = refFanIn;
+    }
+
+    /**
+     * Get a generator whose output grows linearly with the given scale. Scale 1 is roughly the size of the Slack
+     * sample in the samples directory.
+     *
+     * @param scale size multiplier
+     * @return synthetic spec generator
+     */
+    public static SyntheticSpecGenerator ofScale(int scale) {
+        return new SyntheticSpecGenerator(11 * scale, 6, 20 * scale, 3, 10, 3);
+    }
+
+    /**
+     * Number of event types in the generated spec, used to normalize the measurements.
+     *
+     * @return number of messages across all the channels
+     */
+    public int getEventCount() {
+        return channelCount * messagesPerChannel;
+    }
+
+    public String generate() {
+        ObjectNode spec = objectMapper.createObjectNode();
+        spec.put("asyncapi", "2.1.0");
+        ObjectNode info = spec.putObject("info");
+        info.put("title", "Synthetic Events API");
+        info.put("version", "1.0.0");
+        ObjectNode identifier = spec.putObject("x-ballerina-event-identifier");
+        identifier.put("type", "body");
+        identifier.put("path", "event.type");
+
+        ObjectNode schemas = spec.putObject("components").putObject("schemas");
+        int enumCount = Math.max(1, schemaCount / 4);
+        for (int i = 0; i < enumCount; i++) {
+            schemas.set(getEnumSchemaName(i), createEnumSchema(i));
+        }
+        for (int i = 0; i < schemaCount; i++) {
+            schemas.set(getSharedSchemaName(i), createSharedSchema(i, enumCount));
+        }
+
+        ObjectNode channels = spec.putObject("channels");
+        int eventIndex = 0;
+        for (int c = 0; c < channelCount; c++) {
+            ObjectNode channel = channels.putObject("synthetic/events/channel" + c);
+            channel.put("x-ballerina-service-type", "SyntheticChannel" + c + "Service");
+            ArrayNode oneOf = channel.putObject("subscribe").putObject("message").putArray("oneOf");
+            for (int m = 0; m < messagesPerChannel; m++) {
+                String eventSchemaName = "Channel" + c + "Event" + m;
+                ObjectNode message = oneOf.addObject();
+                message.put("x-ballerina-event-type", "channel_" + c + "_event_" + m);
+                message.put("summary", "Synthetic event " + m + " of the channel " + c);
+                message.putObject("payload").put("$ref", "#/components/schemas/" + eventSchemaName);
+                schemas.set(eventSchemaName, createEventSchema(eventIndex++));
+            }
+        }
+
+        try {
+            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(spec);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the synthetic AsyncAPI spec", e);
+        }
+    }
+
+    private ObjectNode createEventSchema(int eventIndex) {
+        ObjectNode schema = objectMapper.createObjectNode();
+        schema.put("type", "object");
+        schema.put("title", "Synthetic event wrapper " + eventIndex);
+        ObjectNode properties = schema.putObject("properties");
+        properties.putObject("token").put("type", "string");
+        properties.putObject("team_id").put("type", "string");
+        properties.putObject("event_time").put("type", "integer");
+
+        ObjectNode event = properties.putObject("event");
+        event.put("type", "object");
+        ObjectNode eventProperties = event.putObject("properties");
+        eventProperties.putObject("type").put("type", "string");
+        eventProperties.putObject("event_ts").put("type", "string");
+        eventProperties.set("details", createNestedObject(nestingDepth));
+        event.putArray("required").add("type");
+
+        for (int r = 0; r < refFanIn; r++) {
+            int target = (eventIndex * refFanIn + r) % schemaCount;
+            properties.putObject("ref_" + r).put("$ref", "#/components/schemas/" + getSharedSchemaName(target));
+        }
+        ObjectNode refArray = properties.putObject("shared_items");
+        refArray.put("type", "array");
+        refArray.putObject("items")
+                .put("$ref", "#/components/schemas/" + getSharedSchemaName(eventIndex % schemaCount));
+        schema.putArray("required").add("token").add("event");
+        return schema;
+    }
+
+    private ObjectNode createSharedSchema(int index, int enumCount) {
+        ObjectNode schema = objectMapper.createObjectNode();
+        schema.put("type", "object");
+        schema.put("description", "Synthetic shared schema " + index);
+        ObjectNode properties = schema.putObject("properties");
+        properties.putObject("id").put("type", "string");
+        properties.putObject("count").put("type", "integer");
+        ObjectNode amount = properties.putObject("amount");
+        amount.put("type", "number");
+        amount.put("format", "float");
+        properties.putObject("enabled").put("type", "boolean");
+        ObjectNode tags = properties.putObject("tags");
+        tags.put("type", "array");
+        tags.putObject("items").put("type", "string");
+        properties.putObject("status").put("$ref", "#/components/schemas/" + getEnumSchemaName(index % enumCount));
+        properties.set("nested", createNestedObject(nestingDepth));
+        schema.putArray("required").add("id");
+        return schema;
+    }
+
+    private ObjectNode createEnumSchema(int index) {
+        ObjectNode schema = objectMapper.createObjectNode();
+        schema.put("type", "string");
+        ArrayNode values = schema.putArray("enum");
+        for (int v = 0; v < enumSize; v++) {
+            values.add("STATUS_" + index + "_VALUE_" + v);
+        }
+        return schema;
+    }
+
+    private ObjectNode createNestedObject(int depth) {
+        ObjectNode schema = objectMapper.createObjectNode();
+        if (depth <= 0) {
+            schema.put("type", "string");
+            return schema;
+        }
+        schema.put("type", "object");
+        ObjectNode properties = schema.putObject("properties");
+        properties.putObject("name").put("type", "string");
+        properties.putObject("value").put("type", "integer");
+        properties.set("child", createNestedObject(depth - 1));
+        return schema;
+    }
+
+    private static String getSharedSchemaName(int index) {
+        return "SharedSchema" + index;
+    }
+
+    private static String getEnumSchemaName(int index) {
+        return "SharedStatus" + index;
+    }
+}
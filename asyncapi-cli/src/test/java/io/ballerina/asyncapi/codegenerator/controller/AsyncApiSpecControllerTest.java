@@ -19,11 +19,19 @@
 package io.ballerina.asyncapi.codegenerator.controller;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.CodegenOptions;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Test the functionality and flow control of the data extraction process.
  */
@@ -86,4 +94,135 @@ public class AsyncApiSpecControllerTest {
         Assert.assertEquals(specController.getEventIdentifierType(), "body");
         Assert.assertEquals(specController.getEventIdentifierPath(), "event.'type");
     }
+
+    @Test(description = "Test that the extracted entities are the same when the references are preserved")
+    public void testReadSpecPreservingReferences() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        CodegenOptions options = new CodegenOptions();
+        options.setPreserveReferences(true);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson, options);
+
+        Assert.assertEquals(specController.getServiceTypes().size(), 3);
+        Assert.assertEquals(specController.getServiceTypes().get(2).getRemoteFunctions().get(0).getEventType(),
+                "CustomTestSchema");
+        Assert.assertEquals(specController.getSchemas().size(), 2);
+
+        String dataTypesTemplate = fileRepository.getFileContentFromResources(Constants.DATA_TYPES_BAL_FILE_NAME);
+        String dataTypesResult = fileRepository
+                .getFileContentFromResources("expected_gen/".concat(Constants.DATA_TYPES_BAL_FILE_NAME));
+        BalController schemaController = new SchemaController(specController.getSchemas(),
+                specController.getServiceTypes(), options);
+        Assert.assertEquals(schemaController.generateBalCode(dataTypesTemplate), dataTypesResult);
+    }
+
+    @Test(description = "Test that the unresolvable references are reported when the references are preserved",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "Could not resolve some Yaml paths defined in \\$ref attributes: "
+                    + "#/components/schemas/GenericEventWrapper")
+    public void testReadSpecPreservingReferencesWithMissingReference() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-single-channel-missing-reference.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        CodegenOptions options = new CodegenOptions();
+        options.setPreserveReferences(true);
+        new AsyncApiSpecController(asyncApiSpecJson, options);
+    }
+
+    @Test(description = "Test that the references to other files are resolved, reading each file only once")
+    public void testReadSpecWithExternalReferences() throws BallerinaAsyncApiException {
+        String specPath = "src/test/resources/specs/spec-with-external-references/spec.yml";
+        Map<String, Integer> readCounts = new ConcurrentHashMap<>();
+        FileRepository countingFileRepository = new FileRepositoryImpl() {
+            @Override
+            public String getFileContent(String filePath) throws BallerinaAsyncApiException {
+                readCounts.merge(Paths.get(filePath).getFileName().toString(), 1, Integer::sum);
+                return super.getFileContent(filePath);
+            }
+        };
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(fileRepository.getFileContent(specPath));
+        CodegenOptions options = new CodegenOptions();
+        options.setKeepUnusedSchemas(true);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson, specPath,
+                countingFileRepository, options);
+
+        Assert.assertEquals(readCounts.get("user.yml"), Integer.valueOf(1));
+        Assert.assertEquals(readCounts.get("common.yml"), Integer.valueOf(1));
+        Assert.assertEquals(readCounts.get("user-messages.yml"), Integer.valueOf(1));
+
+        Assert.assertEquals(specController.getSchemas().keySet(),
+                Set.of("Team", "User", "Address", "UserCreated", "UserDeleted"));
+        Assert.assertEquals(specController.getSchemas().get("Team").getSchemaProperties().get("members")
+                .getItems().getRef(), "#/components/schemas/User");
+        Assert.assertEquals(specController.getSchemas().get("User").getSchemaProperties().get("address").getRef(),
+                "#/components/schemas/Address");
+        Assert.assertEquals(specController.getServiceTypes().get(0).getRemoteFunctions().get(0).getEventName(),
+                "user_created");
+        Assert.assertEquals(specController.getServiceTypes().get(0).getRemoteFunctions().get(0).getEventType(),
+                "UserCreated");
+        Assert.assertEquals(specController.getServiceTypes().get(0).getRemoteFunctions().get(1).getEventType(),
+                "UserDeleted");
+    }
+
+    @Test(description = "Test that a missing path in a referenced file is reported",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "Could not resolve some Yaml paths defined in \\$ref attributes: "
+                    + "schemas/user.yml#/MissingSchema")
+    public void testReadSpecWithMissingExternalReference() throws BallerinaAsyncApiException {
+        String specPath = "src/test/resources/specs/spec-with-external-references/spec.yml";
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(fileRepository.getFileContent(specPath))
+                .replace("schemas/user.yml#/UserDeleted", "schemas/user.yml#/MissingSchema");
+        new AsyncApiSpecController(asyncApiSpecJson, specPath, fileRepository, new CodegenOptions());
+    }
+
+    @Test(description = "Test that the unused schemas are only kept when it is requested")
+    public void testGetSchemasWithUnusedSchemas() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-with-unused-schemas.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+        Assert.assertEquals(specController.getSchemas().size(), 4);
+        Assert.assertFalse(specController.getSchemas().containsKey("UnusedEvent"));
+
+        CodegenOptions options = new CodegenOptions();
+        options.setKeepUnusedSchemas(true);
+        SpecController keepAllSpecController = new AsyncApiSpecController(asyncApiSpecJson, options);
+        Assert.assertEquals(keepAllSpecController.getSchemas().size(), 6);
+        Assert.assertTrue(keepAllSpecController.getSchemas().containsKey("UnusedEvent"));
+    }
+
+    @Test(description = "Test that the schemas of the events which are not selected are not generated")
+    public void testGetSchemasWithSelectedEvents() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        CodegenOptions options = new CodegenOptions();
+        options.setSelectedEvents(List.of("app_created"));
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson, options);
+
+        Assert.assertEquals(specController.getServiceTypes().size(), 1);
+        Assert.assertEquals(specController.getServiceTypes().get(0).getServiceTypeName(),
+                "AppCreatedHandlingService");
+        Assert.assertEquals(specController.getSchemas().keySet(), Set.of("CustomTestSchema"));
+    }
+
+    @Test(description = "Test that the schemas and the service types are sorted by name when it is requested")
+    public void testGetSchemasAndServiceTypesSorted() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        CodegenOptions options = new CodegenOptions();
+        options.setSortedOutput(true);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson, options);
+
+        Assert.assertEquals(List.copyOf(specController.getSchemas().keySet()),
+                List.of("CustomTestSchema", "GenericEventWrapper"));
+        Assert.assertEquals(specController.getServiceTypes().get(0).getServiceTypeName(),
+                "AppCreatedHandlingService");
+        Assert.assertEquals(specController.getServiceTypes().get(1).getServiceTypeName(),
+                "AppMentionHandlingService");
+        Assert.assertEquals(specController.getServiceTypes().get(1).getRemoteFunctions().get(0).getEventName(),
+                "app_mention_added");
+    }
 }
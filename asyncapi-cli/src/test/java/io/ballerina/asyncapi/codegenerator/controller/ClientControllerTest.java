@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.codegenerator.controller;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.entity.RemoteFunction;
+import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test the code generation of the client.bal.
+ */
+public class ClientControllerTest {
+    FileRepository fileRepository = new FileRepositoryImpl();
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function " +
+            "when the event identifier is in the body")
+    public void testGenerateBalCodeWithIdentifierInBody() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String clientTemplate = fileRepository.getFileContentFromResources(Constants.CLIENT_BAL_FILE_NAME);
+        BalController clientController = new ClientController(specController.getServiceTypes(),
+                specController.getEventIdentifierType(), specController.getEventIdentifierPath());
+        String clientContent = clientController.generateBalCode(clientTemplate).replaceAll("\\s", "");
+
+        Assert.assertTrue(clientContent.contains(
+                "remotefunctionsendAppMentionAdded(GenericEventWrapperevent)returnserror?{" +
+                        "checkself.sendEvent(event,\"app_mention_added\");}"));
+        Assert.assertTrue(clientContent.contains(
+                "privatefunctionsetEventIdentifier(http:Requestrequest,jsonpayload,stringeventName)" +
+                        "returnserror?{checksetJsonField(payload,[\"event\",\"type\"],eventName);}"));
+        Assert.assertTrue(clientContent.contains(
+                "remotefunctionsendBatch(EventMessage[]events,booleanndjson=false)returnsBatchEventStatus[]|error{"));
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function " +
+            "when the event identifier is in a header and an event is listened by multiple service types")
+    public void testGenerateBalCodeWithIdentifierInHeader() throws BallerinaAsyncApiException {
+        List<ServiceType> serviceTypes = Arrays.asList(
+                new ServiceType("FirstService", Collections.singletonList(
+                        new RemoteFunction("app_created", "AppCreatedEvent"))),
+                new ServiceType("SecondService", Arrays.asList(
+                        new RemoteFunction("app_created", "AppCreatedEvent"),
+                        new RemoteFunction("app_deleted", "AppDeletedEvent"))));
+
+        String clientTemplate = fileRepository.getFileContentFromResources(Constants.CLIENT_BAL_FILE_NAME);
+        BalController clientController = new ClientController(serviceTypes,
+                Constants.X_BALLERINA_EVENT_TYPE_HEADER, "event-name");
+        String clientContent = clientController.generateBalCode(clientTemplate).replaceAll("\\s", "");
+
+        Assert.assertTrue(clientContent.contains("request.setHeader(\"event-name\",eventName);"));
+        Assert.assertEquals(clientContent.split("remotefunctionsendAppCreated\\(", -1).length - 1, 1);
+        Assert.assertTrue(clientContent.contains("remotefunctionsendAppDeleted(AppDeletedEventevent)"));
+        Assert.assertFalse(clientContent.contains("sendBatch("));
+        Assert.assertFalse(clientContent.contains("BatchEventStatus"));
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function " +
+            "when the segments of the event identifier path are escaped")
+    public void testGenerateBalCodeWithEscapedIdentifierPath() throws BallerinaAsyncApiException {
+        String clientTemplate = fileRepository.getFileContentFromResources(Constants.CLIENT_BAL_FILE_NAME);
+        BalController clientController = new ClientController(new ArrayList<>(),
+                Constants.X_BALLERINA_EVENT_TYPE_BODY, "'channel.event\\-meta.schema\\.name.'type");
+        String clientContent = clientController.generateBalCode(clientTemplate).replaceAll("\\s", "");
+
+        Assert.assertTrue(clientContent.contains(
+                "checksetJsonField(payload,[\"channel\",\"event-meta\",\"schema.name\",\"type\"],eventName);"));
+    }
+
+    @Test(description = "Test the functionality of the generate function " +
+            "when the there is no Client class in the client.bal template",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "Client class 'Client', is not found in the client.bal")
+    public void testGenerateWithInvalidTemplate() throws BallerinaAsyncApiException {
+        BalController clientController = new ClientController(new ArrayList<>(),
+                Constants.X_BALLERINA_EVENT_TYPE_BODY, "event.type");
+        clientController.generateBalCode("");
+    }
+}
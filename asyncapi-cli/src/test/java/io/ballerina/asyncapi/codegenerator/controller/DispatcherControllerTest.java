@@ -19,6 +19,7 @@
 package io.ballerina.asyncapi.codegenerator.controller;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.CodegenOptions;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
@@ -26,6 +27,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Test the functionality and flow control of the data extraction process.
@@ -50,6 +52,121 @@ public class DispatcherControllerTest {
         Assert.assertEquals(dispatcherController.generateBalCode(dispatcherTemplate), dispatcherResult);
     }
 
+    @Test(description = "Test the functionality of the 'generateBalCode' function when the event identifier is in "
+            + "a header")
+    public void testGenerateBalCodeWithEventIdentifierInHeader() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String dispatcherTemplate = fileRepository.getFileContentFromResources(
+                Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER);
+        BalController dispatcherController = new DispatcherController(specController.getServiceTypes(),
+                Constants.X_BALLERINA_EVENT_TYPE_HEADER, "event-name");
+        String dispatcherContent = dispatcherController.generateBalCode(dispatcherTemplate);
+
+        Assert.assertTrue(dispatcherContent.contains(
+                "string eventIdentifier = check request.getHeader(\"event-name\");"));
+        Assert.assertTrue(dispatcherContent.contains("const EVENT_IDENTIFIER_HEADER = \"event-name\";"));
+        Assert.assertTrue(dispatcherContent.contains(
+                "configurable string[] eventCaptureHeaders = [\"Content-Type\", \"Content-Encoding\"];"));
+        Assert.assertFalse(dispatcherContent.contains("request.getHeaderNames()"));
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with a resource path for each "
+            + "service type")
+    public void testGenerateBalCodeWithChannelPaths() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String dispatcherTemplate = fileRepository
+                .getFileContentFromResources(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME);
+        CodegenOptions options = new CodegenOptions();
+        options.setChannelPaths(true);
+        BalController dispatcherController = new DispatcherController(
+                specController.getServiceTypes(), specController.getEventIdentifierType(),
+                specController.getEventIdentifierPath(), options);
+        String dispatcherContent = dispatcherController.generateBalCode(dispatcherTemplate);
+
+        Assert.assertTrue(dispatcherContent.contains("resource function post .(http:Caller caller"));
+        Assert.assertTrue(dispatcherContent.contains(
+                "resource function post AppMentionHandlingService(http:Caller caller"));
+        Assert.assertTrue(dispatcherContent.contains(
+                "resource function post AppRateLimitedHandlingService(http:Caller caller"));
+        Assert.assertTrue(dispatcherContent.contains(
+                "resource function post AppCreatedHandlingService(http:Caller caller"));
+        String appCreatedResource = dispatcherContent.substring(
+                dispatcherContent.indexOf("resource function post AppCreatedHandlingService("),
+                dispatcherContent.indexOf("private function matchRemoteFunc("));
+        Assert.assertTrue(appCreatedResource.contains("\"app_created\""));
+        Assert.assertFalse(appCreatedResource.contains("\"app_mention_added\""));
+        Assert.assertFalse(appCreatedResource.contains("self.matchRemoteFunc("));
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the batch endpoint")
+    public void testGenerateBalCodeWithBatchEndpoint() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String dispatcherTemplate = fileRepository
+                .getFileContentFromResources(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME);
+        String batchTemplate = fileRepository.getFileContentFromResources(
+                Constants.DISPATCHER_SERVICE_BATCH_BAL_FILE_NAME);
+        CodegenOptions options = new CodegenOptions();
+        options.setBatchEndpoint(true);
+        BalController dispatcherController = new DispatcherController(
+                specController.getServiceTypes(), specController.getEventIdentifierType(),
+                specController.getEventIdentifierPath(), options, List.of(batchTemplate));
+        String dispatcherContent = dispatcherController.generateBalCode(dispatcherTemplate);
+
+        int postIndex = dispatcherContent.indexOf("resource function post .(http:Caller caller");
+        int batchIndex = dispatcherContent.indexOf("resource function post batch(http:Caller caller");
+        Assert.assertTrue(postIndex >= 0);
+        Assert.assertTrue(batchIndex > postIndex);
+        Assert.assertTrue(dispatcherContent.contains("configurable boolean batchParallelDispatch = false;"));
+        Assert.assertTrue(dispatcherContent.contains("configurable int batchMaxParallelDispatches = 16;"));
+        Assert.assertTrue(dispatcherContent.contains("public type BatchItemStatus record {|"));
+        Assert.assertTrue(dispatcherContent.contains(
+                "isolated function getBatchPayloads(string contentType, byte[] body)"));
+    }
+
+    @Test(description = "Test the functionality of the generateBalCode function with the WebSocket transport")
+    public void testGenerateBalCodeWithWebSocketTransport() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String dispatcherTemplate = fileRepository
+                .getFileContentFromResources(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME);
+        String webSocketTemplate = fileRepository
+                .getFileContentFromResources(Constants.DISPATCHER_SERVICE_WEBSOCKET_BAL_FILE_NAME);
+        CodegenOptions options = new CodegenOptions();
+        options.setWebSocketTransport(true);
+        BalController dispatcherController = new DispatcherController(
+                specController.getServiceTypes(), specController.getEventIdentifierType(),
+                specController.getEventIdentifierPath(), options, List.of(webSocketTemplate));
+        String dispatcherContent = dispatcherController.generateBalCode(dispatcherTemplate);
+
+        Assert.assertTrue(dispatcherContent.contains("import ballerina/websocket;"));
+        Assert.assertEquals(dispatcherContent.indexOf("import ballerina/http;"),
+                dispatcherContent.lastIndexOf("import ballerina/http;"));
+        Assert.assertEquals(dispatcherContent.indexOf("import ballerinax/asyncapi.native.handler;"),
+                dispatcherContent.lastIndexOf("import ballerinax/asyncapi.native.handler;"));
+        Assert.assertTrue(dispatcherContent.contains("function dispatchEvent(string text) returns error?"));
+        Assert.assertTrue(dispatcherContent.contains("if body.length() > self.maxPayloadSize {"));
+        Assert.assertTrue(dispatcherContent.contains(
+                "self.captureEvent({\"Content-Type\": \"application/json\"}, body);"));
+        Assert.assertTrue(dispatcherContent.contains("service class WebSocketEventService"));
+        Assert.assertEquals(dispatcherContent.indexOf("service class DispatcherService"),
+                dispatcherContent.lastIndexOf("service class DispatcherService"));
+    }
+
     @Test(description = "Test the functionality of the generate function " +
             "when the there is no resource function named as '.' in the dispatcher_service.bal template",
             expectedExceptions = BallerinaAsyncApiException.class,
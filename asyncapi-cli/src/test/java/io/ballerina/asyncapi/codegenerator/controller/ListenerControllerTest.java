@@ -26,6 +26,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Test the functionality and flow control of the data extraction process.
@@ -48,6 +49,33 @@ public class ListenerControllerTest {
         Assert.assertEquals(listenerController.generateBalCode(listenerTemplate), listenerResult);
     }
 
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the WebSocket extension")
+    public void testGenerateBalCodeWithWebSocketExtension() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String listenerTemplate = fileRepository
+                .getFileContentFromResources(Constants.LISTENER_BAL_FILE_NAME);
+        String websocketTemplate = fileRepository
+                .getFileContentFromResources(Constants.LISTENER_WEBSOCKET_BAL_FILE_NAME);
+        BalController listenerController = new ListenerController(specController.getServiceTypes(),
+                List.of(websocketTemplate));
+        String listenerContent = listenerController.generateBalCode(listenerTemplate);
+
+        Assert.assertTrue(listenerContent.contains("import ballerina/websocket;"));
+        Assert.assertTrue(listenerContent.contains("configurable string websocketPath = \"events\";"));
+        Assert.assertTrue(listenerContent.contains("private websocket:Listener websocketListener;"));
+        Assert.assertTrue(listenerContent.contains("self.websocketListener = check new (self.httpListener);"));
+        Assert.assertTrue(listenerContent.contains("error? websocketResult = self.websocketListener.gracefulStop();"));
+        // The methods of the extension replace the methods of the listener, the others are kept
+        Assert.assertEquals(listenerContent.split("public isolated function gracefulStop\\(\\)", -1).length, 2);
+        Assert.assertTrue(listenerContent.contains("if serviceRef is AppMentionHandlingService {"));
+        Assert.assertTrue(listenerContent.contains(
+                "isolated function getHttpListenerConfigs(ListenerConfigs configs)"));
+    }
+
     @Test(description = "Test the functionality of the generate function " +
             "when the there is no function named as 'getServiceTypeStr' in the listener.bal template",
             expectedExceptions = BallerinaAsyncApiException.class,
@@ -19,12 +19,15 @@
 package io.ballerina.asyncapi.codegenerator.controller;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.CodegenOptions;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Set;
+
 /**
  * Test the functionality and flow control of the data extraction process.
  */
@@ -43,7 +46,49 @@ public class SchemaControllerTest {
                 .getFileContentFromResources(Constants.DATA_TYPES_BAL_FILE_NAME);
         String schemaResult = fileRepository
                 .getFileContentFromResources("expected_gen/".concat(Constants.DATA_TYPES_BAL_FILE_NAME));
-        BalController schemaController = new SchemaController(specController.getSchemas());
+        BalController schemaController = new SchemaController(specController.getSchemas(),
+                specController.getServiceTypes(), new CodegenOptions());
         Assert.assertEquals(schemaController.generateBalCode(dataTypesTemplate), schemaResult);
     }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function " +
+            "when the inline objects have the same structure as the named schemas")
+    public void testGenerateBalCodeWithDuplicateInlineSchemas() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-with-duplicate-inline-schemas.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+        Assert.assertEquals(specController.getSchemas().keySet(),
+                Set.of("Address", "Customer", "customer_created"));
+
+        String dataTypesTemplate = fileRepository
+                .getFileContentFromResources(Constants.DATA_TYPES_BAL_FILE_NAME);
+        BalController schemaController = new SchemaController(specController.getSchemas());
+        String dataTypes = schemaController.generateBalCode(dataTypesTemplate);
+        Assert.assertTrue(dataTypes.contains("Address billing_address?;"));
+        Assert.assertFalse(dataTypes.contains("record {string street?; string city;} billing_address?;"));
+        Assert.assertFalse(dataTypes.contains("Address shipping_address?;"));
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function " +
+            "when the nested records are generated as named types")
+    public void testGenerateBalCodeWithHoistedRecords() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-with-nested-schemas.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        CodegenOptions options = new CodegenOptions();
+        options.setHoistNestedRecords(true);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson, options);
+
+        String dataTypesTemplate = fileRepository
+                .getFileContentFromResources(Constants.DATA_TYPES_BAL_FILE_NAME);
+        BalController schemaController = new SchemaController(specController.getSchemas());
+        String dataTypes = schemaController.generateBalCode(dataTypesTemplate);
+        Assert.assertTrue(dataTypes.contains("OrderCustomer2 customer?;"));
+        Assert.assertTrue(dataTypes.contains("OrderCustomer2Address address?;"));
+        Assert.assertTrue(dataTypes.contains("OrderLinesItem[] lines?;"));
+        Assert.assertTrue(dataTypes.contains("OrderPayment payment?;"));
+        Assert.assertTrue(dataTypes.contains("OrderPayment refund?;"));
+        Assert.assertTrue(dataTypes.contains("public type OrderLinesItem record {"));
+    }
 }
@@ -31,6 +31,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Test the extraction of service types from the AsyncAPI specification.
@@ -186,4 +187,127 @@ public class ExtractChannelsFromSpecTest {
         Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec);
         extractServiceTypes.extract();
     }
+
+    @Test(
+            description = "Test the functionality of the extract function " +
+                    "when only some of the channels and events are selected"
+    )
+    public void testExtractWithSelectedChannelsAndEvents() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-multiple-channels.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec,
+                Set.of("events/foo/1", "events/foo/3"), Set.of("bar_1_event_2", "bar_2_event_1", "bar_3_event_1"));
+        MultiChannel multiChannel = extractServiceTypes.extract();
+        List<ServiceType> serviceTypes = multiChannel.getServiceTypes();
+
+        Assert.assertEquals(serviceTypes.size(), 2);
+        Assert.assertEquals(serviceTypes.get(0).getServiceTypeName(), "FooService1");
+        Assert.assertEquals(serviceTypes.get(0).getRemoteFunctions().size(), 1);
+        Assert.assertEquals(serviceTypes.get(0).getRemoteFunctions().get(0).getEventName(), "bar_1_event_2");
+        Assert.assertEquals(serviceTypes.get(1).getServiceTypeName(), "FooService3");
+        Assert.assertEquals(serviceTypes.get(1).getRemoteFunctions().get(0).getEventName(), "bar_3_event_1");
+    }
+
+    @Test(
+            description = "Test the functionality of the extract function " +
+                    "when a selected event is not in the spec",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "Could not find the selected events in the AsyncAPI specification: " +
+                    "bar_9_event_1"
+    )
+    public void testExtractWithUnknownSelectedEvent() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-multiple-channels.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec,
+                Set.of(), Set.of("bar_1_event_1", "bar_9_event_1"));
+        extractServiceTypes.extract();
+    }
+
+    @Test(
+            description = "Test the functionality of the extract function " +
+                    "when the inline payloads have the same structure as other schemas"
+    )
+    public void testExtractWithDuplicateInlineSchemas() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-with-duplicate-inline-schemas.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec);
+        MultiChannel multiChannel = extractServiceTypes.extract();
+        List<RemoteFunction> remoteFunctions = multiChannel.getServiceTypes().get(0).getRemoteFunctions();
+
+        Assert.assertEquals(remoteFunctions.get(0).getEventType(), "customer_created");
+        Assert.assertEquals(remoteFunctions.get(1).getEventType(), "customer_created");
+        Assert.assertEquals(remoteFunctions.get(2).getEventType(), "Address");
+        Assert.assertEquals(multiChannel.getInlineSchemas().keySet(), Set.of("customer_created"));
+    }
+
+    @Test(
+            description = "Test the functionality of the extract function " +
+                    "when the inline payloads differ only in their constant values or the discriminator"
+    )
+    public void testExtractWithConstantInlineSchemas() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-with-constant-schemas.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec);
+        MultiChannel multiChannel = extractServiceTypes.extract();
+        List<RemoteFunction> remoteFunctions = multiChannel.getServiceTypes().get(0).getRemoteFunctions();
+
+        Assert.assertEquals(remoteFunctions.get(0).getEventType(), "customer_deleted");
+        Assert.assertEquals(remoteFunctions.get(1).getEventType(), "customer_archived");
+        Assert.assertEquals(remoteFunctions.get(2).getEventType(), "customer_tagged");
+        Assert.assertEquals(multiChannel.getInlineSchemas().keySet(),
+                Set.of("customer_deleted", "customer_archived", "customer_tagged"));
+    }
+
+    @Test(description = "Test the functionality of the extract function with the partition keys of the messages")
+    public void testExtractWithPartitionKeys() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-with-partition-keys.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec);
+        MultiChannel multiChannel = extractServiceTypes.extract();
+        List<RemoteFunction> remoteFunctions = multiChannel.getServiceTypes().get(1).getRemoteFunctions();
+
+        Assert.assertEquals(remoteFunctions.size(), 3);
+        Assert.assertEquals(remoteFunctions.get(0).getPartitionKeyPath(), "event.'channel");
+        Assert.assertEquals(remoteFunctions.get(1).getPartitionKeyPath(), "event.'type");
+        Assert.assertNull(remoteFunctions.get(2).getPartitionKeyPath());
+    }
+
+    @Test(description = "Test the functionality of the extract function when a partition key is not a path of "
+            + "field names",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "The x-ballerina-partition-key attribute of the message message_posted "
+                    + "has an invalid field name .*")
+    public void testExtractWithInvalidPartitionKey() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-with-invalid-partition-key.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec);
+        extractServiceTypes.extract();
+    }
+
+    @Test(description = "Test the functionality of the extract function with the priority classes of the messages")
+    public void testExtractWithPriorities() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-with-partition-keys.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec);
+        MultiChannel multiChannel = extractServiceTypes.extract();
+
+        Assert.assertEquals(multiChannel.getServiceTypes().get(0).getRemoteFunctions().get(0).getPriority(), "high");
+        List<RemoteFunction> remoteFunctions = multiChannel.getServiceTypes().get(1).getRemoteFunctions();
+        Assert.assertNull(remoteFunctions.get(0).getPriority());
+        Assert.assertEquals(remoteFunctions.get(2).getPriority(), "low");
+    }
 }
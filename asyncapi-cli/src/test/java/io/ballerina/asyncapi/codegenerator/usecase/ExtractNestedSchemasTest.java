@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.asyncapi.models.AaiDocument;
+import io.apicurio.datamodels.asyncapi.v2.models.Aai20Document;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.entity.MultiChannel;
+import io.ballerina.asyncapi.codegenerator.entity.Schema;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test the extraction of the nested object schemas as named schemas.
+ */
+public class ExtractNestedSchemasTest {
+    FileRepository fileRepository = new FileRepositoryImpl();
+
+    @Test(description = "Test the functionality of the extract function " +
+            "when there are objects nested inside the properties and the array items")
+    public void testExtract() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository.getFileContentFromResources("specs/spec-with-nested-schemas.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractChannels = new ExtractChannelsFromSpec(asyncApiSpec);
+        MultiChannel multiChannel = extractChannels.extract();
+        Extractor extractSchemas = new ExtractSchemasFromSpec(asyncApiSpec);
+        Map<String, Schema> schemas = extractSchemas.extract();
+
+        Extractor extractNestedSchemas = new ExtractNestedSchemas(schemas, multiChannel.getServiceTypes());
+        Map<String, Schema> result = extractNestedSchemas.extract();
+
+        // OrderCustomer is already defined in the spec, hence the nested customer gets a number at the end
+        Assert.assertEquals(new ArrayList<>(result.keySet()), List.of("Order", "OrderCustomer2",
+                "OrderCustomer2Address", "OrderLinesItem", "OrderPayment", "OrderCustomer"));
+        Assert.assertEquals(result.get("OrderCustomer2"),
+                schemas.get("Order").getSchemaProperties().get("customer"));
+        Assert.assertEquals(result.get("OrderLinesItem").getSchemaProperties().keySet().size(), 2);
+    }
+}
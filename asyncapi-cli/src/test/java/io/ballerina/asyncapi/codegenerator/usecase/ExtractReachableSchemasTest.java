@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.asyncapi.models.AaiDocument;
+import io.apicurio.datamodels.asyncapi.v2.models.Aai20Document;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.entity.MultiChannel;
+import io.ballerina.asyncapi.codegenerator.entity.Schema;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Test the extraction of the schemas which are reachable from the channel messages.
+ */
+public class ExtractReachableSchemasTest {
+    FileRepository fileRepository = new FileRepositoryImpl();
+
+    @Test(description = "Test that only the schemas reachable from the message payloads are extracted")
+    public void testExtractReachableSchemas() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-with-unused-schemas.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractChannels = new ExtractChannelsFromSpec(asyncApiSpec);
+        MultiChannel multiChannel = extractChannels.extract();
+        Extractor extractSchemas = new ExtractSchemasFromSpec(asyncApiSpec);
+        Map<String, Schema> schemas = extractSchemas.extract();
+        schemas.putAll(multiChannel.getInlineSchemas());
+
+        Extractor extractReachableSchemas = new ExtractReachableSchemas(schemas, multiChannel.getServiceTypes());
+        Map<String, Schema> reachableSchemas = extractReachableSchemas.extract();
+
+        Assert.assertEquals(reachableSchemas.keySet(), Set.of("UsedEvent", "UsedItem", "UsedLabel", "inline_event"));
+        Assert.assertEquals(List.copyOf(reachableSchemas.keySet()), schemas.keySet().stream()
+                .filter(reachableSchemas::containsKey).collect(Collectors.toList()));
+    }
+}
@@ -29,6 +29,7 @@ import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -119,4 +120,54 @@ public class ExtractSchemasFromSpecTest {
                         .getSchemaProperties().get("custom_test_schema").getRef(),
                 "#/components/schemas/CustomTestSchema");
     }
+
+    @Test(
+            description = "Test the functionality of the extract function " +
+                    "when the schemas refer to themselves and to each other"
+    )
+    public void testExtractWithRecursiveSchemas() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-with-recursive-schemas.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
+        Map<String, Schema> schemas = extractSchemasFromSpec.extract();
+
+        Assert.assertEquals(schemas.size(), 3);
+        Assert.assertEquals(schemas.get("Message").getSchemaProperties().get("replies").getItems().getRef(),
+                "#/components/schemas/Message");
+        Assert.assertEquals(schemas.get("ThreadRoot").getRef(), "#/components/schemas/Message");
+    }
+
+    @Test(
+            description = "Test the functionality of the extract function " +
+                    "when the schemas are only references of each other",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "Schemas reference each other without defining a type: " +
+                    "First -> Second -> First|Second -> First -> Second"
+    )
+    public void testExtractWithAliasCycle() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-with-alias-cycle-schemas.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
+        extractSchemasFromSpec.extract();
+    }
+
+    @Test(
+            description = "Test that the schemas and their properties are extracted in the order of the spec"
+    )
+    public void testExtractInSpecOrder() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-single-schema-with-x-nullable.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
+        Map<String, Schema> schemas = extractSchemasFromSpec.extract();
+
+        Assert.assertEquals(List.copyOf(schemas.keySet()), List.of("OrderEvent", "TaxLine", "TotalPriceSet", "Price"));
+        Assert.assertEquals(List.copyOf(schemas.get("OrderEvent").getSchemaProperties().keySet()),
+                List.of("id", "email", "confirmed", "rate", "tax_lines", "total_price_set", "total_tax_set"));
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.entity.RemoteFunction;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test the generation of the remote functions of the event-producer client.
+ */
+public class GenerateClientFunctionNodeTest {
+    @Test(description = "Test the functionality of the generate function")
+    public void testGenerate() throws BallerinaAsyncApiException {
+        RemoteFunction remoteFunction = new RemoteFunction("app_mention", "GenericEventWrapper");
+        Generator generateClientFunctionNode = new GenerateClientFunctionNode(remoteFunction);
+        FunctionDefinitionNode functionDefinitionNode = generateClientFunctionNode.generate();
+
+        Assert.assertEquals(functionDefinitionNode.functionName().text(), "sendAppMention");
+        Assert.assertEquals(functionDefinitionNode.qualifierList().get(0).text(), "remote");
+        Assert.assertTrue(functionDefinitionNode.functionSignature().returnTypeDesc().isPresent());
+        Assert.assertEquals(functionDefinitionNode.functionSignature().returnTypeDesc().get().type().toSourceCode(),
+                "error?");
+        Assert.assertEquals(functionDefinitionNode.functionSignature().parameters().get(0).toSourceCode(),
+                "GenericEventWrapperevent");
+        Assert.assertEquals(functionDefinitionNode.functionBody().toSourceCode(),
+                "{checkself.sendEvent(event,\"app_mention\");}");
+    }
+
+    @Test(description = "Test the functionality of the generate function " +
+            "when the event name of the remote function is empty",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "Event name is empty in the event type GenericEventWrapper")
+    public void testGenerateWithEmptyEventName() throws BallerinaAsyncApiException {
+        Generator generateClientFunctionNode = new GenerateClientFunctionNode(
+                new RemoteFunction("", "GenericEventWrapper"));
+        generateClientFunctionNode.generate();
+    }
+}
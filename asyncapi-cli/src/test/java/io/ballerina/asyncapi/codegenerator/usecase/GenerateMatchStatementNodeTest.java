@@ -49,13 +49,64 @@ public class GenerateMatchStatementNodeTest {
 
         Assert.assertEquals(matchStatementNode.condition().toSourceCode(), expression);
 
+        Assert.assertEquals(matchStatementNode.matchClauses().get(0).blockStatement().statements().get(0)
+                        .toSourceCode(),
+                "readonly&GenericEventgenericDataType=checkpayload.cloneWithType();");
         String matchStatement = matchStatementNode.matchClauses().get(0).blockStatement()
-                .statements().get(0).toSourceCode();
+                .statements().get(1).toSourceCode();
         Assert.assertEquals(matchStatement,
-                "checkself.executeRemoteFunc(genericDataType,\"app_mention\"," +
+                "checkself.executeRemoteFunc(genericDataType," +
+                        "\"app_mention\"," +
                         "\"AppMentionHandlingService\",\"onAppMention\");");
     }
 
+    @Test(description = "Test the functionality of the generate function when the events of a service type have "
+            + "different types")
+    public void testGenerateWithEventTypes() throws BallerinaAsyncApiException {
+        List<RemoteFunction> remoteFunctions = List.of(new RemoteFunction("order_created", "OrderCreated"),
+                new RemoteFunction("order_noted", "order_noted"));
+        List<ServiceType> serviceTypes = List.of(new ServiceType("OrderService", remoteFunctions));
+        Generator generateMatchStatementNode = new GenerateMatchStatementNode(serviceTypes, "payload.kind");
+        MatchStatementNode matchStatementNode = generateMatchStatementNode.generate();
+        Assert.assertEquals(matchStatementNode.matchClauses().size(), 2);
+
+        Assert.assertEquals(matchStatementNode.matchClauses().get(0).blockStatement().statements().get(0)
+                        .toSourceCode(), "readonly&OrderCreatedgenericDataType=checkpayload.cloneWithType();");
+        Assert.assertEquals(matchStatementNode.matchClauses().get(1).blockStatement().statements().get(0)
+                        .toSourceCode(), "readonly&OrderNotedgenericDataType=checkpayload.cloneWithType();");
+        Assert.assertEquals(matchStatementNode.matchClauses().get(0).blockStatement().statements().get(1)
+                        .toSourceCode(),
+                "checkself.executeRemoteFunc(genericDataType," +
+                        "\"order_created\",\"OrderService\",\"onOrderCreated\");");
+        Assert.assertEquals(matchStatementNode.matchClauses().get(1).blockStatement().statements().get(1)
+                        .toSourceCode(),
+                "checkself.executeRemoteFunc(genericDataType," +
+                        "\"order_noted\",\"OrderService\",\"onOrderNoted\");");
+    }
+
+    @Test(description = "Test the functionality of the generate function with the partition keys and the " +
+            "priorities of the events")
+    public void testGenerateWithPartitionKeys() throws BallerinaAsyncApiException {
+        RemoteFunction messagePosted = new RemoteFunction("message_posted", "MessageEvent");
+        messagePosted.setPartitionKeyPath("event.channel");
+        RemoteFunction messagePinned = new RemoteFunction("message_pinned", "MessageEvent");
+        messagePinned.setPriority("low");
+        List<RemoteFunction> remoteFunctions = List.of(messagePosted, messagePinned);
+        List<ServiceType> serviceTypes = List.of(new ServiceType("MessageService", remoteFunctions));
+        Generator generateMatchStatementNode = new GenerateMatchStatementNode(serviceTypes, "payload.event.'type");
+        MatchStatementNode matchStatementNode = generateMatchStatementNode.generate();
+
+        Assert.assertEquals(matchStatementNode.matchClauses().get(0).blockStatement().statements().get(1)
+                        .toSourceCode(),
+                "checkself.executeRemoteFuncInOrder(genericDataType," +
+                        "(check payload.event.channel).toString(),\"message_posted\",\"MessageService\"," +
+                        "\"onMessagePosted\");");
+        Assert.assertEquals(matchStatementNode.matchClauses().get(1).blockStatement().statements().get(1)
+                        .toSourceCode(),
+                "checkself.executeRemoteFunc(genericDataType," +
+                        "\"message_pinned\",\"MessageService\",\"onMessagePinned\",handler:LOW);");
+    }
+
     @Test(description = "Test the functionality of the generate function " +
             "when the service types list is empty",
             expectedExceptions = BallerinaAsyncApiException.class,
@@ -22,16 +22,20 @@ import io.apicurio.datamodels.Library;
 import io.apicurio.datamodels.asyncapi.models.AaiDocument;
 import io.apicurio.datamodels.asyncapi.v2.models.Aai20Document;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.CodegenOptions;
 import io.ballerina.asyncapi.codegenerator.entity.Schema;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
 import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
 import io.ballerina.compiler.syntax.tree.RecordFieldNode;
 import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -59,11 +63,11 @@ public class GenerateModuleMemberDeclarationNodeTest {
         Assert.assertTrue(typeDefinitionNode.typeDescriptor() instanceof RecordTypeDescriptorNode);
         RecordTypeDescriptorNode recordTypeDescriptorNode =
                 (RecordTypeDescriptorNode) typeDefinitionNode.typeDescriptor();
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(0)).fieldName().text(),
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(1)).fieldName().text(),
                 "authed_users");
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(4)).fieldName().text(),
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(2)).fieldName().text(),
                 "event");
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(4)).typeName().toSourceCode(),
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(2)).typeName().toSourceCode(),
                 "record { #When the event was dispatchedstringevent_ts;" +
                         "#The specific name of the eventstring'type;} ");
     }
@@ -115,26 +119,26 @@ public class GenerateModuleMemberDeclarationNodeTest {
         Assert.assertTrue(typeDefinitionNode2.typeDescriptor() instanceof RecordTypeDescriptorNode);
         RecordTypeDescriptorNode recordTypeDescriptorNode =
                 (RecordTypeDescriptorNode) typeDefinitionNode2.typeDescriptor();
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(0)).typeName().toSourceCode(),
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(2)).typeName().toSourceCode(),
                 "string[]");
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(5)).fieldName().toSourceCode(),
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(8)).fieldName().toSourceCode(),
                 "'type");
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(8)).typeName().toSourceCode(),
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(18)).typeName().toSourceCode(),
                 "record {}[]");
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(10)).typeName().toSourceCode(),
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(16)).typeName().toSourceCode(),
                 "CustomTestSchema[]");
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(12)).typeName().toSourceCode(),
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(13)).typeName().toSourceCode(),
                 "CustomTestSchema");
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(15)).typeName().toSourceCode(),
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(3)).typeName().toSourceCode(),
                 "record { #When the event was dispatchedstringevent_ts;" +
                         "#The specific name of the eventstring'type;} ");
         Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(17)).typeName().toSourceCode(),
                 "string[][]");
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(18)).typeName().toSourceCode(),
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(12)).typeName().toSourceCode(),
                 "record {}");
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(19)).typeName().toSourceCode(),
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(15)).typeName().toSourceCode(),
                 "anydata");
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(19)).fieldName().toSourceCode(),
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode.fields().get(15)).fieldName().toSourceCode(),
                 "'anydata");
     }
 
@@ -186,47 +190,262 @@ public class GenerateModuleMemberDeclarationNodeTest {
         Map.Entry<String, Schema> firstEntry = iterator.next();
         Generator generateRecordNode1 = new GenerateModuleMemberDeclarationNode(firstEntry);
         TypeDefinitionNode typeDefinitionNode1 = generateRecordNode1.generate();
-        Assert.assertEquals(typeDefinitionNode1.typeName().text(), "TotalPriceSet");
+        Assert.assertEquals(typeDefinitionNode1.typeName().text(), "OrderEvent");
 
         Map.Entry<String, Schema> secondEntry = iterator.next();
         Generator generateRecordNode2 = new GenerateModuleMemberDeclarationNode(secondEntry);
         TypeDefinitionNode typeDefinitionNode2 = generateRecordNode2.generate();
-        Assert.assertEquals(typeDefinitionNode2.typeName().text(), "Price");
+        Assert.assertEquals(typeDefinitionNode2.typeName().text(), "TaxLine");
 
         Map.Entry<String, Schema> thirdEntry = iterator.next();
         Generator generateRecordNode3 = new GenerateModuleMemberDeclarationNode(thirdEntry);
         TypeDefinitionNode typeDefinitionNode3 = generateRecordNode3.generate();
-        Assert.assertEquals(typeDefinitionNode3.typeName().text(), "OrderEvent");
+        Assert.assertEquals(typeDefinitionNode3.typeName().text(), "TotalPriceSet");
 
         Map.Entry<String, Schema> forthEntry = iterator.next();
         Generator generateRecordNode4 = new GenerateModuleMemberDeclarationNode(forthEntry);
         TypeDefinitionNode typeDefinitionNode4 = generateRecordNode4.generate();
-        Assert.assertEquals(typeDefinitionNode4.typeName().text(), "TaxLine");
+        Assert.assertEquals(typeDefinitionNode4.typeName().text(), "Price");
 
-        Assert.assertTrue(typeDefinitionNode3.typeDescriptor() instanceof RecordTypeDescriptorNode);
-        RecordTypeDescriptorNode recordTypeDescriptorNode3 =
-                (RecordTypeDescriptorNode) typeDefinitionNode3.typeDescriptor();
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode3.fields().get(0)).typeName().toSourceCode(),
-                "TotalPriceSet?");
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode3.fields().get(1)).typeName().toSourceCode(),
-                "TaxLine[]?");
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode3.fields().get(2)).typeName().toSourceCode(),
-                "decimal?");
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode3.fields().get(3)).typeName().toSourceCode(),
-                "record { Priceshop_money?;Price?presentment_money?;} ?");
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode3.fields().get(4)).typeName().toSourceCode(),
+        Assert.assertTrue(typeDefinitionNode1.typeDescriptor() instanceof RecordTypeDescriptorNode);
+        RecordTypeDescriptorNode recordTypeDescriptorNode1 =
+                (RecordTypeDescriptorNode) typeDefinitionNode1.typeDescriptor();
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode1.fields().get(0)).typeName().toSourceCode(),
                 "int?");
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode3.fields().get(5)).typeName().toSourceCode(),
-                "boolean?");
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode3.fields().get(6)).typeName().toSourceCode(),
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode1.fields().get(1)).typeName().toSourceCode(),
                 "string?");
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode1.fields().get(2)).typeName().toSourceCode(),
+                "boolean?");
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode1.fields().get(3)).typeName().toSourceCode(),
+                "decimal?");
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode1.fields().get(4)).typeName().toSourceCode(),
+                "TaxLine[]?");
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode1.fields().get(5)).typeName().toSourceCode(),
+                "TotalPriceSet?");
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode1.fields().get(6)).typeName().toSourceCode(),
+                "record { Priceshop_money?;Price?presentment_money?;} ?");
 
-        Assert.assertTrue(typeDefinitionNode4.typeDescriptor() instanceof RecordTypeDescriptorNode);
-        RecordTypeDescriptorNode recordTypeDescriptorNode4 =
-                (RecordTypeDescriptorNode) typeDefinitionNode4.typeDescriptor();
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode4.fields().get(2)).typeName().toSourceCode(),
+        Assert.assertTrue(typeDefinitionNode2.typeDescriptor() instanceof RecordTypeDescriptorNode);
+        RecordTypeDescriptorNode recordTypeDescriptorNode2 =
+                (RecordTypeDescriptorNode) typeDefinitionNode2.typeDescriptor();
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode2.fields().get(0)).typeName().toSourceCode(),
                 "string");
-        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode4.fields().get(3)).typeName().toSourceCode(),
+        Assert.assertEquals(((RecordFieldNode) recordTypeDescriptorNode2.fields().get(2)).typeName().toSourceCode(),
                 "string?");
     }
+
+    @Test(description = "Test the functionality of the generate function " +
+            "when the schemas refer to themselves and to each other")
+    public void testGenerateWithRecursiveSchemas() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-with-recursive-schemas.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
+        Map<String, Schema> schemas = extractSchemasFromSpec.extract();
+
+        Generator generateMessageNode = new GenerateModuleMemberDeclarationNode(
+                Map.entry("Message", schemas.get("Message")));
+        TypeDefinitionNode messageNode = generateMessageNode.generate();
+        RecordTypeDescriptorNode recordTypeDescriptorNode = (RecordTypeDescriptorNode) messageNode.typeDescriptor();
+        Map<String, String> fieldTypes = new HashMap<>();
+        recordTypeDescriptorNode.fields().forEach(field -> fieldTypes.put(
+                ((RecordFieldNode) field).fieldName().text(), ((RecordFieldNode) field).typeName().toSourceCode()));
+        Assert.assertEquals(fieldTypes.get("replies"), "Message[]");
+        Assert.assertEquals(fieldTypes.get("thread"), "Thread");
+
+        Generator generateAliasNode = new GenerateModuleMemberDeclarationNode(
+                Map.entry("ThreadRoot", schemas.get("ThreadRoot")));
+        TypeDefinitionNode aliasNode = generateAliasNode.generate();
+        Assert.assertEquals(aliasNode.typeName().text(), "ThreadRoot");
+        Assert.assertEquals(aliasNode.typeDescriptor().toSourceCode().trim(), "Message");
+    }
+
+    @Test(description = "Test the functionality of the generate function " +
+            "when the schemas restrict the additional properties")
+    public void testGenerateWithClosedSchemas() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-with-closed-schemas.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
+        Map<String, Schema> schemas = extractSchemasFromSpec.extract();
+
+        TypeDefinitionNode pointNode = (TypeDefinitionNode) new GenerateModuleMemberDeclarationNode(
+                Map.entry("Point", schemas.get("Point"))).generate();
+        RecordTypeDescriptorNode pointRecord = (RecordTypeDescriptorNode) pointNode.typeDescriptor();
+        Assert.assertEquals(pointRecord.bodyStartDelimiter().kind(), SyntaxKind.OPEN_BRACE_PIPE_TOKEN);
+        Assert.assertEquals(pointRecord.bodyEndDelimiter().kind(), SyntaxKind.CLOSE_BRACE_PIPE_TOKEN);
+        Assert.assertTrue(pointRecord.recordRestDescriptor().isEmpty());
+
+        TypeDefinitionNode labelsNode = (TypeDefinitionNode) new GenerateModuleMemberDeclarationNode(
+                Map.entry("Labels", schemas.get("Labels"))).generate();
+        Assert.assertEquals(labelsNode.typeDescriptor().toSourceCode(), "record {| string...;|} ?");
+
+        TypeDefinitionNode shapeNode = (TypeDefinitionNode) new GenerateModuleMemberDeclarationNode(
+                Map.entry("Shape", schemas.get("Shape"))).generate();
+        RecordTypeDescriptorNode shapeRecord = (RecordTypeDescriptorNode) shapeNode.typeDescriptor();
+        Assert.assertEquals(shapeRecord.bodyStartDelimiter().kind(), SyntaxKind.OPEN_BRACE_TOKEN);
+        Assert.assertEquals(((RecordFieldNode) shapeRecord.fields().get(1)).typeName().toSourceCode(),
+                "record {| intx?;|} ");
+    }
+
+    @Test(description = "Test the functionality of the generate function " +
+            "when the schemas are composed with allOf, oneOf and anyOf")
+    public void testGenerateWithComposedSchemas() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-with-composed-schemas.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
+        Map<String, Schema> schemas = extractSchemasFromSpec.extract();
+
+        TypeDefinitionNode orderNode = (TypeDefinitionNode) new GenerateModuleMemberDeclarationNode(
+                Map.entry("Order", schemas.get("Order")), schemas, Map.of(), new CodegenOptions()).generate();
+        RecordTypeDescriptorNode orderRecord = (RecordTypeDescriptorNode) orderNode.typeDescriptor();
+        Assert.assertEquals(orderRecord.fields().size(), 3);
+        Assert.assertEquals(orderRecord.fields().get(0).kind(), SyntaxKind.TYPE_REFERENCE);
+        Assert.assertEquals(orderRecord.fields().get(0).toSourceCode(), "*Base;");
+        RecordFieldNode totalField = (RecordFieldNode) orderRecord.fields().get(1);
+        Assert.assertEquals(totalField.fieldName().text(), "total");
+        Assert.assertTrue(totalField.questionMarkToken().isEmpty());
+        RecordFieldNode noteField = (RecordFieldNode) orderRecord.fields().get(2);
+        Assert.assertEquals(noteField.fieldName().text(), "note");
+        Assert.assertTrue(noteField.questionMarkToken().isPresent());
+
+        TypeDefinitionNode paymentNode = (TypeDefinitionNode) new GenerateModuleMemberDeclarationNode(
+                Map.entry("Payment", schemas.get("Payment"))).generate();
+        Assert.assertEquals(paymentNode.typeDescriptor().toSourceCode(), "Card|Bank");
+
+        TypeDefinitionNode contactNode = (TypeDefinitionNode) new GenerateModuleMemberDeclarationNode(
+                Map.entry("Contact", schemas.get("Contact"))).generate();
+        Assert.assertEquals(contactNode.typeDescriptor().toSourceCode(), "string|int");
+
+        TypeDefinitionNode shipmentNode = (TypeDefinitionNode) new GenerateModuleMemberDeclarationNode(
+                Map.entry("Shipment", schemas.get("Shipment"))).generate();
+        RecordTypeDescriptorNode shipmentRecord = (RecordTypeDescriptorNode) shipmentNode.typeDescriptor();
+        String addressType = ((RecordFieldNode) shipmentRecord.fields().get(0)).typeName().toSourceCode();
+        Assert.assertTrue(addressType.contains("stringstreet?;"));
+        Assert.assertTrue(addressType.contains("stringcity;"));
+        Assert.assertEquals(((RecordFieldNode) shipmentRecord.fields().get(1)).typeName().toSourceCode(),
+                "Card|Bank");
+        Assert.assertEquals(((RecordFieldNode) shipmentRecord.fields().get(2)).typeName().toSourceCode(),
+                "(Card|string)[]");
+
+        CodegenOptions options = new CodegenOptions();
+        options.setReadonlyTypes(true);
+        TypeDefinitionNode readonlyPaymentNode = (TypeDefinitionNode) new GenerateModuleMemberDeclarationNode(
+                Map.entry("Payment", schemas.get("Payment")), Collections.emptyMap(), options).generate();
+        Assert.assertEquals(readonlyPaymentNode.typeDescriptor().toSourceCode(), "readonly&(Card|Bank)");
+    }
+
+    @Test(description = "Test the functionality of the generate function " +
+            "when a schema in an allOf cannot be included into the record")
+    public void testGenerateWithMergedAllOfSchemas() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-with-composed-schemas.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
+        Map<String, Schema> schemas = extractSchemasFromSpec.extract();
+
+        // A closed record is not included into an open record
+        TypeDefinitionNode strictOrderNode = (TypeDefinitionNode) new GenerateModuleMemberDeclarationNode(
+                Map.entry("StrictOrder", schemas.get("StrictOrder")), schemas, Map.of(), new CodegenOptions())
+                .generate();
+        RecordTypeDescriptorNode strictOrderRecord = (RecordTypeDescriptorNode) strictOrderNode.typeDescriptor();
+        Assert.assertEquals(strictOrderRecord.fields().size(), 2);
+        Assert.assertEquals(((RecordFieldNode) strictOrderRecord.fields().get(0)).fieldName().text(), "id");
+        Assert.assertEquals(((RecordFieldNode) strictOrderRecord.fields().get(1)).fieldName().text(), "total");
+
+        // A field which is optional in the referred schema is required by the allOf
+        TypeDefinitionNode datedOrderNode = (TypeDefinitionNode) new GenerateModuleMemberDeclarationNode(
+                Map.entry("DatedOrder", schemas.get("DatedOrder")), schemas, Map.of(), new CodegenOptions())
+                .generate();
+        RecordTypeDescriptorNode datedOrderRecord = (RecordTypeDescriptorNode) datedOrderNode.typeDescriptor();
+        Assert.assertEquals(datedOrderRecord.fields().size(), 3);
+        RecordFieldNode idField = (RecordFieldNode) datedOrderRecord.fields().get(0);
+        Assert.assertEquals(idField.fieldName().text(), "id");
+        Assert.assertTrue(idField.questionMarkToken().isEmpty());
+        RecordFieldNode createdAtField = (RecordFieldNode) datedOrderRecord.fields().get(1);
+        Assert.assertEquals(createdAtField.fieldName().text(), "createdAt");
+        Assert.assertTrue(createdAtField.questionMarkToken().isEmpty());
+
+        // With the closed records, a record which stays open is not included into a closed record, and the
+        // records which are closed the same way are still included
+        CodegenOptions options = new CodegenOptions();
+        options.setClosedRecords(true);
+        TypeDefinitionNode openOrderNode = (TypeDefinitionNode) new GenerateModuleMemberDeclarationNode(
+                Map.entry("OpenOrder", schemas.get("OpenOrder")), schemas, Map.of(), options).generate();
+        RecordTypeDescriptorNode openOrderRecord = (RecordTypeDescriptorNode) openOrderNode.typeDescriptor();
+        Assert.assertEquals(openOrderRecord.bodyStartDelimiter().kind(), SyntaxKind.OPEN_BRACE_PIPE_TOKEN);
+        Assert.assertEquals(openOrderRecord.fields().get(0).kind(), SyntaxKind.RECORD_FIELD);
+        TypeDefinitionNode orderNode = (TypeDefinitionNode) new GenerateModuleMemberDeclarationNode(
+                Map.entry("Order", schemas.get("Order")), schemas, Map.of(), options).generate();
+        Assert.assertEquals(((RecordTypeDescriptorNode) orderNode.typeDescriptor()).fields().get(0).toSourceCode(),
+                "*Base;");
+    }
+
+    @Test(description = "Test the functionality of the generate function " +
+            "when a schema in an allOf is not an object",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "A schema in the allOf of the schema CodedOrder is not an object, " +
+                    "only objects can be combined into a record")
+    public void testGenerateWithNonObjectAllOfSchema() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-with-composed-schemas.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
+        Map<String, Schema> schemas = extractSchemasFromSpec.extract();
+
+        new GenerateModuleMemberDeclarationNode(Map.entry("CodedOrder", schemas.get("CodedOrder")), schemas,
+                Map.of(), new CodegenOptions()).generate();
+    }
+
+    @Test(description = "Test the functionality of the generate function " +
+            "when the records are closed by default")
+    public void testGenerateWithClosedRecordsOption() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-with-closed-schemas.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
+        Map<String, Schema> schemas = extractSchemasFromSpec.extract();
+        CodegenOptions options = new CodegenOptions();
+        options.setClosedRecords(true);
+
+        TypeDefinitionNode shapeNode = (TypeDefinitionNode) new GenerateModuleMemberDeclarationNode(
+                Map.entry("Shape", schemas.get("Shape")), Map.of(), options).generate();
+        RecordTypeDescriptorNode shapeRecord = (RecordTypeDescriptorNode) shapeNode.typeDescriptor();
+        Assert.assertEquals(shapeRecord.bodyStartDelimiter().kind(), SyntaxKind.OPEN_BRACE_PIPE_TOKEN);
+
+        // additionalProperties: true keeps the record open
+        TypeDefinitionNode extensibleNode = (TypeDefinitionNode) new GenerateModuleMemberDeclarationNode(
+                Map.entry("Extensible", schemas.get("Extensible")), Map.of(), options).generate();
+        RecordTypeDescriptorNode extensibleRecord = (RecordTypeDescriptorNode) extensibleNode.typeDescriptor();
+        Assert.assertEquals(extensibleRecord.bodyStartDelimiter().kind(), SyntaxKind.OPEN_BRACE_TOKEN);
+    }
+
+    @Test(description = "Test the functionality of the generate function " +
+            "when the types are readonly")
+    public void testGenerateWithReadonlyTypes() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-with-closed-schemas.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
+        Map<String, Schema> schemas = extractSchemasFromSpec.extract();
+        CodegenOptions options = new CodegenOptions();
+        options.setReadonlyTypes(true);
+
+        TypeDefinitionNode shapeNode = (TypeDefinitionNode) new GenerateModuleMemberDeclarationNode(
+                Map.entry("Shape", schemas.get("Shape")), Map.of(), options).generate();
+        Assert.assertEquals(shapeNode.typeDescriptor().kind(), SyntaxKind.INTERSECTION_TYPE_DESC);
+        Assert.assertTrue(shapeNode.typeDescriptor().toSourceCode().startsWith("readonly&record{"));
+
+        TypeDefinitionNode labelsNode = (TypeDefinitionNode) new GenerateModuleMemberDeclarationNode(
+                Map.entry("Labels", schemas.get("Labels")), Map.of(), options).generate();
+        Assert.assertEquals(labelsNode.typeDescriptor().toSourceCode(), "readonly&record {| string...;|} ?");
+    }
 }
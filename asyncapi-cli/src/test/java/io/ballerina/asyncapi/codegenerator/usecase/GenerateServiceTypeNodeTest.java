@@ -111,4 +111,20 @@ public class GenerateServiceTypeNodeTest {
         Generator generateServiceTypeNode = new GenerateServiceTypeNode(serviceTypeName, new ArrayList<>());
         generateServiceTypeNode.generate();
     }
+
+    @Test(description = "Test the functionality of the generate function " +
+            "when the event parameters are readonly")
+    public void testGenerateWithReadonlyEvents() throws BallerinaAsyncApiException {
+        List<RemoteFunction> remoteFunctions = List.of(new RemoteFunction("app_mention", "GenericEventWrapper"));
+
+        Generator generateServiceTypeNode =
+                new GenerateServiceTypeNode("AppMentionHandlingService", remoteFunctions, true);
+        TypeDefinitionNode typeDefinitionNode = generateServiceTypeNode.generate();
+
+        ObjectTypeDescriptorNode objectTypeDescriptorNode =
+                (ObjectTypeDescriptorNode) typeDefinitionNode.typeDescriptor();
+        MethodDeclarationNode methodDeclarationNode = (MethodDeclarationNode) objectTypeDescriptorNode.members().get(0);
+        Assert.assertEquals(methodDeclarationNode.methodSignature().parameters().get(0).toSourceCode(),
+                "readonly&GenericEventWrapperevent");
+    }
 }
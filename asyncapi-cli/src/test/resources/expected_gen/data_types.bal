@@ -1,5 +1,43 @@
-// Listener related configurations should be included here
+import ballerina/http;
+import ballerinax/asyncapi.native.handler;
+
+# Configurations of the listener. The configurations of the HTTP listener are not used, when the listener is
+# initialized with an existing `http:Listener`.
+#
+# + maxPayloadSize - Maximum size of a request body as it is received, in bytes. The body is compressed when the
+# request has a Content-Encoding header
+# + maxDecompressedPayloadSize - Maximum size of a compressed request body after it is decompressed, in bytes
+# + host - Host name or the IP address the HTTP listener is bound to
+# + httpVersion - HTTP version of the listener, HTTP/2 is served over cleartext when the listener is not secured
+# + keepAlive - Whether the HTTP/1.x connections are kept alive, so that the senders can reuse them
+# + maxPipelinedRequests - Maximum number of requests which can be pipelined on an HTTP/1.x connection
+# + timeout - Period of time in seconds that a connection waits for a read or a write operation
+# + maxUriLength - Maximum length of the request URI
+# + maxHeaderSize - Maximum size of the request headers
+# + socketConfig - Options of the server socket, e.g. the backlog, the buffer sizes and TCP_NODELAY
+# + dispatchStripes - Number of the stripes which process the events with a partition key in parallel, the events
+# with the same key are always processed by the same stripe in the order they are received
+# + maxConcurrentDispatches - Maximum number of the events processed at the same time, the other events wait in a
+# queue of their priority class. The number is not limited by default, which is 0. The priorities of the events, which
+# are set with x-ballerina-priority in the spec, are ignored unless the number is limited
+# + priorityWeights - Weights of the priority classes, which decide how often the next event is taken from each queue
+# + fanOutFailureMode - Whether an event fails when any (`all`), all (`any`) or none (`best-effort`) of the services
+# of its type fail to process it, when more than one service of the type is attached
 public type ListenerConfigs record {
+    int maxPayloadSize = 10485760;
+    int maxDecompressedPayloadSize = 52428800;
+    string host = "0.0.0.0";
+    http:HttpVersion httpVersion = http:HTTP_2_0;
+    http:KeepAlive keepAlive = http:KEEPALIVE_AUTO;
+    int maxPipelinedRequests = 10;
+    decimal timeout = 60;
+    int maxUriLength = 4096;
+    int maxHeaderSize = 8192;
+    http:ServerSocketConfig socketConfig = {};
+    int dispatchStripes = 16;
+    int maxConcurrentDispatches = 0;
+    handler:PriorityWeights priorityWeights = {};
+    handler:FanOutFailureMode fanOutFailureMode = "all";
 };
 
 public type CustomTestSchema record {
@@ -7,39 +45,45 @@ public type CustomTestSchema record {
 };
 
 public type GenericEventWrapper record {
-    # An array of string-based User IDs. Each member of the collection represents a user that has installed your application/bot and indicates the described event would be visible to those users.
-    string[] authed_users;
-    anydata[] array_with_anydata?;
-    boolean boolean_value?;
+    CustomTestSchema custom_test_schema?;
     # The unique identifier your installed Slack application.
     string api_app_id;
+    # An array of string-based User IDs. Each member of the collection represents a user that has installed your application/bot and indicates the described event would be visible to those users.
+    string[] authed_users;
+    # The actual event, an object, that happened
+    record  { # When the event was dispatched
+        string event_ts; # The specific name of the event
+        string 'type;}  event;
+    # A unique identifier for this specific event, globally unique across all workspaces.
+    string event_id;
+    # The epoch timestamp in seconds indicating when this event was dispatched.
+    int event_time;
     # The unique identifier of the workspace where the event occurred
     string team_id;
-    # Indicates which kind of event dispatch this is, usually `event_callback`
-    string 'type;
     # A verification token to validate the event originated from Slack
     string token;
-    CustomTestSchema custom_test_schema?;
-    record {}[] array_with_inner_object?;
-    # A unique identifier for this specific event, globally unique across all workspaces.
-    string event_id;
-    CustomTestSchema[] array_with_ref?;
+    # Indicates which kind of event dispatch this is, usually `event_callback`
+    string 'type;
+    decimal decimal_number?;
     float float_number?;
+    boolean boolean_value?;
+    record {} plain_object?;
     CustomTestSchema ref_object?;
-    decimal decimal_number?;
     record  { # When the event was dispatched
         string event_ts?; # The specific name of the event
         string 'type?;}  object_without_type?;
-    # The actual event, an object, that happened
-    record  { # When the event was dispatched
-        string event_ts; # The specific name of the event
-        string 'type;}  event;
-    # The epoch timestamp in seconds indicating when this event was dispatched.
-    int event_time;
-    string[][] array_with_inner_array?;
-    record {} plain_object?;
     # This should be considered as anydata
     anydata 'anydata?;
+    CustomTestSchema[] array_with_ref?;
+    string[][] array_with_inner_array?;
+    record {}[] array_with_inner_object?;
+    anydata[] array_with_anydata?;
 };
 
 public type GenericDataType CustomTestSchema|GenericEventWrapper;
+
+public type AppMentionHandlingServiceDataType GenericEventWrapper;
+
+public type AppRateLimitedHandlingServiceDataType GenericEventWrapper;
+
+public type AppCreatedHandlingServiceDataType CustomTestSchema;
@@ -0,0 +1,36 @@
+import ballerina/jballerina.java;
+
+# Captures the requests received by a listener into a log of memory-mapped segment files, which can be
+# replayed later with `io.ballerinax.event.EventLogReplayer`.
+public isolated class EventRecorder {
+
+    # Initializes the recorder.
+    #
+    # + directory - Directory to write the log segments into
+    # + segmentSize - Size of a log segment in bytes
+    # + return - An error if the log could not be created
+    public isolated function init(string directory, int segmentSize = 67108864) returns error? {
+        return initEventRecorder(self, directory, segmentSize);
+    }
+
+    # Appends a request to the log.
+    #
+    # + headers - Headers of the request
+    # + body - Body of the request
+    # + return - An error if the request could not be written
+    public isolated function append(map<string> headers, byte[] body) returns error? = @java:Method {
+        'class: "io.ballerinax.event.NativeEventRecorder"
+    } external;
+
+    # Flushes and closes the log.
+    #
+    # + return - An error if the log could not be closed
+    public isolated function close() returns error? = @java:Method {
+        'class: "io.ballerinax.event.NativeEventRecorder"
+    } external;
+}
+
+isolated function initEventRecorder(EventRecorder recorder, string directory, int segmentSize) returns error? = @java:Method {
+    'class: "io.ballerinax.event.NativeEventRecorder",
+    name: "init"
+} external;
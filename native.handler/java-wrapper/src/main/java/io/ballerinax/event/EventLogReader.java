@@ -0,0 +1,146 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+package io.ballerinax.event;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * {@code EventLogReader} reads the requests captured by {@link EventLogWriter}, segment by segment in the order
+ * they were written.
+ *
+ * @since 2.0.0
+ */
+public class EventLogReader implements Iterator<EventLogReader.CapturedRequest> {
+    private final Path directory;
+    private int segmentIndex = 0;
+    private MappedByteBuffer buffer;
+    private CapturedRequest next;
+
+    public EventLogReader(Path directory) throws IOException {
+        this.directory = directory;
+        if (!Files.exists(EventLogWriter.getSegmentPath(directory, 0))) {
+            throw new IOException("No event log segments found in " + directory);
+        }
+        this.next = readNext();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public CapturedRequest next() {
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        CapturedRequest current = next;
+        try {
+            next = readNext();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read the event log segment " + segmentIndex, e);
+        }
+        return current;
+    }
+
+    private CapturedRequest readNext() throws IOException {
+        while (true) {
+            if (buffer == null) {
+                Path segmentPath = EventLogWriter.getSegmentPath(directory, segmentIndex);
+                if (!Files.exists(segmentPath)) {
+                    return null;
+                }
+                buffer = openSegment(segmentPath);
+            }
+            if (buffer.remaining() >= Integer.BYTES) {
+                int recordSize = buffer.getInt();
+                if (recordSize > 0) {
+                    return readRecord();
+                }
+            }
+            buffer = null;
+            segmentIndex++;
+        }
+    }
+
+    private MappedByteBuffer openSegment(Path segmentPath) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(segmentPath.toFile(), "r")) {
+            MappedByteBuffer segment = file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, file.length());
+            if (segment.remaining() < EventLogWriter.SEGMENT_HEADER_SIZE
+                    || segment.getInt() != EventLogWriter.MAGIC) {
+                throw new IOException(segmentPath + " is not an event log segment");
+            }
+            int version = segment.getInt();
+            if (version != EventLogWriter.VERSION) {
+                throw new IOException("Unsupported event log version " + version + " in " + segmentPath);
+            }
+            return segment;
+        }
+    }
+
+    private CapturedRequest readRecord() {
+        long timestampMicros = buffer.getLong();
+        int headerCount = Short.toUnsignedInt(buffer.getShort());
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (int i = 0; i < headerCount; i++) {
+            byte[] name = new byte[Short.toUnsignedInt(buffer.getShort())];
+            buffer.get(name);
+            byte[] value = new byte[buffer.getInt()];
+            buffer.get(value);
+            headers.put(new String(name, StandardCharsets.UTF_8), new String(value, StandardCharsets.UTF_8));
+        }
+        byte[] body = new byte[buffer.getInt()];
+        buffer.get(body);
+        return new CapturedRequest(timestampMicros, headers, body);
+    }
+
+    /**
+     * A request read from the event log.
+     */
+    public static class CapturedRequest {
+        private final long timestampMicros;
+        private final Map<String, String> headers;
+        private final byte[] body;
+
+        CapturedRequest(long timestampMicros, Map<String, String> headers, byte[] body) {
+            this.timestampMicros = timestampMicros;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public long getTimestampMicros() {
+            return timestampMicros;
+        }
+
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+}
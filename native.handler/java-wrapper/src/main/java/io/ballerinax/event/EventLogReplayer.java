@@ -0,0 +1,150 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+package io.ballerinax.event;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replays an event log captured by the dispatcher service into a listener, either as fast as possible or with the
+ * original timing between the requests.
+ * <p>
+ * Usage: {@code java -cp <java-wrapper jar> io.ballerinax.event.EventLogReplayer <log-directory> <listener-url>
+ * [--original-timing] [--speed <factor>] [--concurrency <requests>]}
+ *
+ * @since 2.0.0
+ */
+public class EventLogReplayer {
+    // Headers which are set by the HTTP client itself
+    private static final Set<String> RESTRICTED_HEADERS = new HashSet<>(Arrays.asList("connection",
+            "content-length", "date", "expect", "from", "host", "upgrade", "via", "warning"));
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final URI listenerUri;
+    private final boolean originalTiming;
+    private final double speed;
+    private final int concurrency;
+    private final Semaphore inFlight;
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public EventLogReplayer(URI listenerUri, boolean originalTiming, double speed, int concurrency) {
+        this.listenerUri = listenerUri;
+        this.originalTiming = originalTiming;
+        this.speed = speed;
+        this.concurrency = concurrency;
+        this.inFlight = new Semaphore(concurrency);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        PrintStream out = System.out;
+        if (args.length < 2) {
+            out.println("Usage: EventLogReplayer <log-directory> <listener-url> [--original-timing] "
+                    + "[--speed <factor>] [--concurrency <requests>]");
+            return;
+        }
+        boolean originalTiming = false;
+        double speed = 1.0;
+        int concurrency = 64;
+        for (int i = 2; i < args.length; i++) {
+            switch (args[i]) {
+                case "--original-timing":
+                    originalTiming = true;
+                    break;
+                case "--speed":
+                    speed = Double.parseDouble(args[++i]);
+                    break;
+                case "--concurrency":
+                    concurrency = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        EventLogReplayer replayer = new EventLogReplayer(URI.create(args[1]), originalTiming, speed, concurrency);
+        long start = System.nanoTime();
+        long sent = replayer.replay(new EventLogReader(Paths.get(args[0])));
+        double seconds = (System.nanoTime() - start) / 1e9;
+        out.println(String.format(Locale.ENGLISH, "Replayed %d requests in %.2f s (%.1f requests/s), "
+                        + "%d succeeded, %d failed", sent, seconds, sent / seconds, replayer.succeeded.get(),
+                replayer.failed.get()));
+    }
+
+    /**
+     * Replay all the requests of the log and wait for their responses.
+     *
+     * @param reader reader of the event log
+     * @return number of requests sent
+     * @throws InterruptedException if interrupted while waiting for the timing or the responses
+     */
+    public long replay(EventLogReader reader) throws InterruptedException {
+        long sent = 0;
+        long firstTimestampMicros = -1;
+        long startNanos = System.nanoTime();
+        while (reader.hasNext()) {
+            EventLogReader.CapturedRequest request = reader.next();
+            if (originalTiming) {
+                if (firstTimestampMicros < 0) {
+                    firstTimestampMicros = request.getTimestampMicros();
+                }
+                long offsetNanos = (long) ((request.getTimestampMicros() - firstTimestampMicros) * 1000 / speed);
+                long waitNanos = startNanos + offsetNanos - System.nanoTime();
+                if (waitNanos > 0) {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                }
+            }
+            inFlight.acquire();
+            send(request).whenComplete((response, error) -> inFlight.release());
+            sent++;
+        }
+        // All the permits are available again once every response has been received
+        inFlight.acquire(concurrency);
+        inFlight.release(concurrency);
+        return sent;
+    }
+
+    private CompletableFuture<HttpResponse<Void>> send(EventLogReader.CapturedRequest request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(listenerUri)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(request.getBody()));
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            if (!RESTRICTED_HEADERS.contains(header.getKey())) {
+                builder.header(header.getKey(), header.getValue());
+            }
+        }
+        return httpClient.sendAsync(builder.build(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    if (error == null && response.statusCode() / 100 == 2) {
+                        succeeded.incrementAndGet();
+                    } else {
+                        failed.incrementAndGet();
+                    }
+                });
+    }
+}
@@ -0,0 +1,145 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+package io.ballerinax.event;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * {@code EventLogWriter} appends the captured requests to a log made of memory-mapped segment files.
+ * <p>
+ * Each segment starts with the magic number and the format version, followed by length-prefixed records. A record
+ * holds the capture time in epoch microseconds, the captured headers and the body bytes. A zero length marks the
+ * end of the records in a segment. When a record does not fit into the current segment, the segment is truncated
+ * to its used size and the next segment is started.
+ *
+ * @since 2.0.0
+ */
+public class EventLogWriter implements Closeable {
+    static final int MAGIC = 0x45564C47;
+    static final int VERSION = 1;
+    static final int SEGMENT_HEADER_SIZE = 8;
+    static final String SEGMENT_FILE_PREFIX = "events-";
+    static final String SEGMENT_FILE_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentSize;
+    private int segmentIndex = 0;
+    private MappedByteBuffer buffer;
+    private boolean closed = false;
+
+    public EventLogWriter(Path directory, int segmentSize) throws IOException {
+        if (segmentSize <= SEGMENT_HEADER_SIZE) {
+            throw new IllegalArgumentException("Segment size should be larger than " + SEGMENT_HEADER_SIZE + " bytes");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        // Continue after the segments of a previous capture into the same directory
+        while (Files.exists(getSegmentPath(directory, segmentIndex))) {
+            segmentIndex++;
+        }
+        openSegment(segmentSize);
+    }
+
+    static Path getSegmentPath(Path directory, int index) {
+        return directory.resolve(String.format("%s%06d%s", SEGMENT_FILE_PREFIX, index, SEGMENT_FILE_SUFFIX));
+    }
+
+    /**
+     * Append a captured request to the log.
+     *
+     * @param timestampMicros capture time in epoch microseconds
+     * @param headers         headers of the request which are needed to replay it
+     * @param body            body bytes of the request
+     * @throws IOException if the next segment could not be created, the next append tries to create it again
+     */
+    public synchronized void append(long timestampMicros, Map<String, String> headers, byte[] body)
+            throws IOException {
+        if (closed) {
+            throw new IOException("Event log is already closed");
+        }
+        byte[][] encodedHeaders = new byte[headers.size() * 2][];
+        int recordSize = Long.BYTES + Short.BYTES + Integer.BYTES + body.length;
+        int i = 0;
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            encodedHeaders[i] = header.getKey().getBytes(StandardCharsets.UTF_8);
+            encodedHeaders[i + 1] = header.getValue().getBytes(StandardCharsets.UTF_8);
+            recordSize += Short.BYTES + encodedHeaders[i].length + Integer.BYTES + encodedHeaders[i + 1].length;
+            i += 2;
+        }
+
+        // Keep room for the zero length which marks the end of the segment. When the next segment could not be
+        // opened by an earlier append, there is no current segment and opening it is tried again.
+        if (buffer == null || buffer.remaining() < Integer.BYTES + recordSize + Integer.BYTES) {
+            if (buffer != null) {
+                closeSegment();
+                segmentIndex++;
+            }
+            openSegment(Math.max(segmentSize, SEGMENT_HEADER_SIZE + Integer.BYTES * 2 + recordSize));
+        }
+        buffer.putInt(recordSize);
+        buffer.putLong(timestampMicros);
+        buffer.putShort((short) headers.size());
+        for (int j = 0; j < encodedHeaders.length; j += 2) {
+            buffer.putShort((short) encodedHeaders[j].length);
+            buffer.put(encodedHeaders[j]);
+            buffer.putInt(encodedHeaders[j + 1].length);
+            buffer.put(encodedHeaders[j + 1]);
+        }
+        buffer.putInt(body.length);
+        buffer.put(body);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (buffer != null) {
+            closeSegment();
+        }
+    }
+
+    private void openSegment(int size) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(getSegmentPath(directory, segmentIndex).toFile(), "rw")) {
+            buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+    }
+
+    private void closeSegment() throws IOException {
+        int used = buffer.position();
+        if (buffer.remaining() >= Integer.BYTES) {
+            buffer.putInt(0);
+        }
+        buffer.force();
+        buffer = null;
+        try (RandomAccessFile file = new RandomAccessFile(getSegmentPath(directory, segmentIndex).toFile(), "rw")) {
+            file.setLength(used + Integer.BYTES);
+        } catch (IOException e) {
+            // Some platforms do not allow truncating a mapped file, the end marker keeps the segment readable
+        }
+    }
+}
@@ -0,0 +1,88 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+package io.ballerinax.event;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.values.BError;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * Collects the results of the remote functions of all the subscribers an event is fanned out to, and completes the
+ * dispatch of the event once all of them are completed. Whether the dispatch fails is decided by the failure mode.
+ */
+public class FanOutCollector {
+    private static final PrintStream errStream = System.err;
+    private final FailureMode failureMode;
+    private final String eventName;
+    private final int subscribers;
+    private final Consumer<Object> onCompleted;
+    private final List<BError> failures = new ArrayList<>();
+    private int completed = 0;
+
+    /**
+     * Failure modes of a fanned out event.
+     * ALL fails when any of the subscribers fails, ANY fails only when all the subscribers fail, and BEST_EFFORT
+     * never fails, the failures are only reported on the standard error.
+     */
+    public enum FailureMode {
+        ALL, ANY, BEST_EFFORT;
+
+        public static FailureMode fromString(String failureMode) {
+            return valueOf(failureMode.trim().replace('-', '_').toUpperCase(Locale.ENGLISH));
+        }
+    }
+
+    public FanOutCollector(FailureMode failureMode, String eventName, int subscribers, Consumer<Object> onCompleted) {
+        this.failureMode = failureMode;
+        this.eventName = eventName;
+        this.subscribers = subscribers;
+        this.onCompleted = onCompleted;
+    }
+
+    public void complete(Object result) {
+        synchronized (this) {
+            if (result instanceof BError) {
+                failures.add((BError) result);
+            }
+            completed++;
+            if (completed < subscribers) {
+                return;
+            }
+        }
+        onCompleted.accept(getResult());
+    }
+
+    private Object getResult() {
+        if (failures.isEmpty()) {
+            return null;
+        }
+        String message = failures.size() + " of " + subscribers + " subscribers failed to process the event "
+                + eventName + ": " + failures.get(0).getErrorMessage();
+        if (failureMode == FailureMode.BEST_EFFORT || (failureMode == FailureMode.ANY
+                && failures.size() < subscribers)) {
+            errStream.println(message);
+            return null;
+        }
+        return ErrorCreator.createError(fromString(message), failures.get(0));
+    }
+}
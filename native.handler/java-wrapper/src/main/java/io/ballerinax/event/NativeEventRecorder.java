@@ -0,0 +1,91 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+package io.ballerinax.event;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * This class contains the native functions of the event recorder, which captures the requests received by the
+ * dispatcher service into an {@link EventLogWriter}.
+ */
+public class NativeEventRecorder {
+    private static final String EVENT_LOG_WRITER = "eventLogWriter";
+    // Transport level headers are not needed to identify or replay an event, so they are not captured
+    private static final Set<String> SKIPPED_HEADERS = new HashSet<>(Arrays.asList("host", "connection",
+            "content-length", "transfer-encoding", "accept", "accept-encoding", "user-agent", "keep-alive",
+            "upgrade", "te", "expect"));
+
+    public static Object init(BObject recorder, BString directory, long segmentSize) {
+        if (segmentSize > Integer.MAX_VALUE) {
+            return ErrorCreator.createError(fromString("Segment size should not be larger than "
+                    + Integer.MAX_VALUE + " bytes"));
+        }
+        try {
+            EventLogWriter writer = new EventLogWriter(Paths.get(directory.getValue()), (int) segmentSize);
+            recorder.addNativeData(EVENT_LOG_WRITER, writer);
+        } catch (IOException | IllegalArgumentException e) {
+            return ErrorCreator.createError(fromString("Could not create the event log in "
+                    + directory.getValue() + ": " + e.getMessage()));
+        }
+        return null;
+    }
+
+    public static Object append(BObject recorder, BMap<BString, Object> headers, BArray body) {
+        EventLogWriter writer = (EventLogWriter) recorder.getNativeData(EVENT_LOG_WRITER);
+        Map<String, String> capturedHeaders = new HashMap<>();
+        for (Map.Entry<BString, Object> header : headers.entrySet()) {
+            String name = header.getKey().getValue().toLowerCase(Locale.ENGLISH);
+            if (!SKIPPED_HEADERS.contains(name)) {
+                capturedHeaders.put(name, header.getValue().toString());
+            }
+        }
+        Instant now = Instant.now();
+        long timestampMicros = ChronoUnit.MICROS.between(Instant.EPOCH, now);
+        try {
+            writer.append(timestampMicros, capturedHeaders, body.getBytes());
+        } catch (IOException e) {
+            return ErrorCreator.createError(fromString("Could not capture the request: " + e.getMessage()));
+        }
+        return null;
+    }
+
+    public static Object close(BObject recorder) {
+        EventLogWriter writer = (EventLogWriter) recorder.getNativeData(EVENT_LOG_WRITER);
+        try {
+            writer.close();
+        } catch (IOException e) {
+            return ErrorCreator.createError(fromString("Could not close the event log: " + e.getMessage()));
+        }
+        return null;
+    }
+}
@@ -19,14 +19,18 @@ package io.ballerinax.event;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Future;
 import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.async.Callback;
 import io.ballerina.runtime.api.async.StrandMetadata;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
+import java.util.function.Consumer;
+
 import static io.ballerina.runtime.api.utils.StringUtils.fromString;
 
 /**
@@ -34,26 +38,136 @@ import static io.ballerina.runtime.api.utils.StringUtils.fromString;
  * These are being called from Ballerina (dispatcher_service.bal) through interop
  */
 public class NativeHttpToEventAdaptor {
+    private static final String STRIPED_DISPATCHER = "stripedDispatcher";
+    private static final String PRIORITY_DISPATCHER = "priorityDispatcher";
+
+    public static void initDispatchers(BObject adaptor, long dispatchStripes, long maxConcurrentDispatches,
+                                       BMap<BString, Object> priorityWeights) {
+        adaptor.addNativeData(STRIPED_DISPATCHER, new StripedDispatcher(toPositiveInt(dispatchStripes)));
+        // The events are not queued by their priority, unless the number of the concurrent dispatches is limited
+        if (maxConcurrentDispatches > 0) {
+            adaptor.addNativeData(PRIORITY_DISPATCHER, new PriorityDispatcher(toPositiveInt(maxConcurrentDispatches),
+                    toPositiveInt(priorityWeights.getIntValue(fromString("high"))),
+                    toPositiveInt(priorityWeights.getIntValue(fromString("normal"))),
+                    toPositiveInt(priorityWeights.getIntValue(fromString("low")))));
+        }
+    }
+
     public static Object invokeRemoteFunction(Environment env, BObject adaptor, BMap<BString, Object> message,
-                                              BString eventName, BString eventFunction, BObject serviceObj) {
+                                              BString eventName, BString eventFunction, BObject serviceObj,
+                                              BString priority) {
+        Future balFuture = env.markAsync();
+        dispatch(env.getRuntime(), adaptor, message, eventName, eventFunction, serviceObj, priority,
+                balFuture::complete);
+        return null;
+    }
+
+    public static Object invokeRemoteFunctionInOrder(Environment env, BObject adaptor, BMap<BString, Object> message,
+                                                     BString partitionKey, BString eventName, BString eventFunction,
+                                                     BObject serviceObj, BString priority) {
+        Future balFuture = env.markAsync();
+        Runtime runtime = env.getRuntime();
+        // The next event of the key waits until this one is processed, including the time it is queued by priority
+        submitInOrder(adaptor, partitionKey, onProcessed -> dispatch(runtime, adaptor, message, eventName,
+                eventFunction, serviceObj, priority, result -> {
+                    onProcessed.run();
+                    balFuture.complete(result);
+                }));
+        return null;
+    }
+
+    public static Object invokeRemoteFunctions(Environment env, BObject adaptor, BMap<BString, Object> message,
+                                               BString eventName, BString eventFunction, BArray serviceObjs,
+                                               BString failureMode, BString priority) {
+        Future balFuture = env.markAsync();
+        fanOut(env.getRuntime(), adaptor, message, eventName, eventFunction, serviceObjs, failureMode, priority,
+                balFuture::complete);
+        return null;
+    }
+
+    public static Object invokeRemoteFunctionsInOrder(Environment env, BObject adaptor, BMap<BString, Object> message,
+                                                      BString partitionKey, BString eventName, BString eventFunction,
+                                                      BArray serviceObjs, BString failureMode, BString priority) {
         Future balFuture = env.markAsync();
+        Runtime runtime = env.getRuntime();
+        // The next event of the key waits until all the subscribers have processed this one
+        submitInOrder(adaptor, partitionKey, onProcessed -> fanOut(runtime, adaptor, message, eventName,
+                eventFunction, serviceObjs, failureMode, priority, result -> {
+                    onProcessed.run();
+                    balFuture.complete(result);
+                }));
+        return null;
+    }
+
+    // All the subscribers are given the same event value, so it should be readonly to keep them from seeing each
+    // other's changes
+    private static void fanOut(Runtime runtime, BObject adaptor, BMap<BString, Object> message, BString eventName,
+                               BString eventFunction, BArray serviceObjs, BString failureMode, BString priority,
+                               Consumer<Object> onResult) {
+        int subscribers = serviceObjs.size();
+        if (subscribers == 0) {
+            onResult.accept(null);
+            return;
+        }
+        FanOutCollector collector = new FanOutCollector(FanOutCollector.FailureMode.fromString(
+                failureMode.getValue()), eventName.getValue(), subscribers, onResult);
+        for (int i = 0; i < subscribers; i++) {
+            dispatch(runtime, adaptor, message, eventName, eventFunction, (BObject) serviceObjs.get(i), priority,
+                    collector::complete);
+        }
+    }
+
+    private static void dispatch(Runtime runtime, BObject adaptor, BMap<BString, Object> message, BString eventName,
+                                 BString eventFunction, BObject serviceObj, BString priority,
+                                 Consumer<Object> onResult) {
+        submit(adaptor, priority, onDispatched ->
+                invokeMethodAsync(runtime, message, eventName, eventFunction, serviceObj, result -> {
+                    onDispatched.run();
+                    onResult.accept(result);
+                }));
+    }
+
+    private static void submitInOrder(BObject adaptor, BString partitionKey, Consumer<Runnable> dispatch) {
+        StripedDispatcher dispatcher = (StripedDispatcher) adaptor.getNativeData(STRIPED_DISPATCHER);
+        if (dispatcher == null) {
+            dispatch.accept(() -> { });
+        } else {
+            dispatcher.submit(partitionKey.getValue(), dispatch);
+        }
+    }
+
+    private static void submit(BObject adaptor, BString priority, Consumer<Runnable> dispatch) {
+        PriorityDispatcher dispatcher = (PriorityDispatcher) adaptor.getNativeData(PRIORITY_DISPATCHER);
+        if (dispatcher == null) {
+            dispatch.accept(() -> { });
+        } else {
+            dispatcher.submit(PriorityDispatcher.Priority.fromString(priority.getValue()), dispatch);
+        }
+    }
+
+    private static int toPositiveInt(long value) {
+        return (int) Math.max(1, Math.min(value, Integer.MAX_VALUE));
+    }
+
+    // The next queued event is started as soon as this one is processed, before its caller is resumed
+    private static void invokeMethodAsync(Runtime runtime, BMap<BString, Object> message, BString eventName,
+                                          BString eventFunction, BObject serviceObj, Consumer<Object> onResult) {
         Module module = ModuleUtils.getModule();
         StrandMetadata metadata = new StrandMetadata(module.getOrg(), module.getName(), module.getVersion(),
                 eventName.getValue());
         Object[] args = new Object[]{message, true};
-        env.getRuntime().invokeMethodAsync(serviceObj, eventFunction.getValue(), null, metadata, new Callback() {
+        runtime.invokeMethodAsync(serviceObj, eventFunction.getValue(), null, metadata, new Callback() {
             @Override
             public void notifySuccess(Object result) {
-                balFuture.complete(result);
+                onResult.accept(result);
             }
 
             @Override
             public void notifyFailure(BError bError) {
                 BString errorMessage = fromString("service method invocation failed: " + bError.getErrorMessage());
                 BError invocationError = ErrorCreator.createError(errorMessage, bError);
-                balFuture.complete(invocationError);
+                onResult.accept(invocationError);
             }
         }, args);
-        return null;
     }
 }
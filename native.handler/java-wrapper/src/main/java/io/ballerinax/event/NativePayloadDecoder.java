@@ -0,0 +1,105 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+package io.ballerinax.event;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * This class contains the native functions which decompress the request bodies received by the dispatcher service.
+ * The decompressed body is read in chunks, so that a small body which decompresses into a large one is rejected as
+ * soon as it exceeds the maximum size, instead of after it is fully decompressed.
+ */
+public class NativePayloadDecoder {
+    private static final int BUFFER_SIZE = 8192;
+    private static final String PAYLOAD_TOO_LARGE_ERROR = "PayloadTooLargeError";
+    private static final String INVALID_PAYLOAD_ERROR = "InvalidPayloadError";
+
+    public static Object decompress(BArray payload, BString contentEncoding, long maxSize) {
+        String encoding = contentEncoding.getValue().trim().toLowerCase(Locale.ENGLISH);
+        byte[] compressed = payload.getBytes();
+        try {
+            switch (encoding) {
+                case "gzip":
+                case "x-gzip":
+                    return ValueCreator.createArrayValue(
+                            read(new GZIPInputStream(new ByteArrayInputStream(compressed)), maxSize));
+                case "deflate":
+                    try {
+                        return ValueCreator.createArrayValue(
+                                read(new InflaterInputStream(new ByteArrayInputStream(compressed)), maxSize));
+                    } catch (ZipException e) {
+                        // Some clients send the raw deflate stream, without the zlib header
+                        return ValueCreator.createArrayValue(read(new InflaterInputStream(
+                                new ByteArrayInputStream(compressed), new Inflater(true)), maxSize));
+                    }
+                default:
+                    return createError(INVALID_PAYLOAD_ERROR, "Unsupported content encoding: "
+                            + contentEncoding.getValue());
+            }
+        } catch (PayloadTooLargeException e) {
+            return createError(PAYLOAD_TOO_LARGE_ERROR, e.getMessage());
+        } catch (IOException e) {
+            return createError(INVALID_PAYLOAD_ERROR, "Could not decompress the payload: " + e.getMessage());
+        }
+    }
+
+    private static BError createError(String errorTypeName, String message) {
+        return ErrorCreator.createError(ModuleUtils.getModule(), errorTypeName, fromString(message), null, null);
+    }
+
+    private static byte[] read(InputStream inputStream, long maxSize) throws IOException {
+        try (InputStream stream = inputStream) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long size = 0;
+            int length;
+            while ((length = stream.read(buffer)) != -1) {
+                size += length;
+                if (size > maxSize) {
+                    throw new PayloadTooLargeException("Decompressed payload is larger than the maximum size of "
+                            + maxSize + " bytes");
+                }
+                outputStream.write(buffer, 0, length);
+            }
+            return outputStream.toByteArray();
+        }
+    }
+
+    /**
+     * Thrown when the decompressed body exceeds the maximum size, to tell it apart from a body which is not valid.
+     */
+    private static class PayloadTooLargeException extends IOException {
+        PayloadTooLargeException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+package io.ballerinax.event;
+
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+/**
+ * Limits the number of the events dispatched at the same time, and queues the rest in a separate queue for each
+ * priority class. When a dispatch completes, the next event is taken from the queues with a smooth weighted round
+ * robin, so that the events of a higher class are started more often, while the events of a lower class are still
+ * started at the rate of their weight instead of waiting until the higher queues are empty.
+ * A dispatch is given a callback, which it calls once the event is processed to start the next queued event.
+ */
+public class PriorityDispatcher {
+    private final int maxConcurrentDispatches;
+    private final int[] weights;
+    private final int[] currentWeights;
+    private final Queue<Consumer<Runnable>>[] queues;
+    private int dispatching = 0;
+
+    /**
+     * Priority classes of the events, in the order of their default importance.
+     */
+    public enum Priority {
+        HIGH, NORMAL, LOW;
+
+        public static Priority fromString(String priority) {
+            return valueOf(priority.trim().toUpperCase(Locale.ENGLISH));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public PriorityDispatcher(int maxConcurrentDispatches, int highWeight, int normalWeight, int lowWeight) {
+        if (maxConcurrentDispatches < 1) {
+            throw new IllegalArgumentException("Maximum number of the concurrent dispatches should be at least 1");
+        }
+        if (highWeight < 1 || normalWeight < 1 || lowWeight < 1) {
+            throw new IllegalArgumentException("Weights of the priority classes should be at least 1");
+        }
+        this.maxConcurrentDispatches = maxConcurrentDispatches;
+        this.weights = new int[]{highWeight, normalWeight, lowWeight};
+        this.currentWeights = new int[weights.length];
+        this.queues = new Queue[weights.length];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new ArrayDeque<>();
+        }
+    }
+
+    public void submit(Priority priority, Consumer<Runnable> dispatch) {
+        synchronized (this) {
+            if (dispatching >= maxConcurrentDispatches) {
+                queues[priority.ordinal()].add(dispatch);
+                return;
+            }
+            dispatching++;
+        }
+        run(dispatch);
+    }
+
+    private void next() {
+        Consumer<Runnable> dispatch;
+        synchronized (this) {
+            dispatch = poll();
+            if (dispatch == null) {
+                dispatching--;
+                return;
+            }
+        }
+        run(dispatch);
+    }
+
+    private void run(Consumer<Runnable> dispatch) {
+        try {
+            dispatch.accept(this::next);
+        } catch (RuntimeException e) {
+            // The event could not be started, so the callback is never called for it
+            next();
+            throw e;
+        }
+    }
+
+    // Smooth weighted round robin over the non-empty queues, which spreads the turns of a class evenly
+    private Consumer<Runnable> poll() {
+        int selected = -1;
+        int totalWeight = 0;
+        for (int i = 0; i < queues.length; i++) {
+            if (queues[i].isEmpty()) {
+                continue;
+            }
+            currentWeights[i] += weights[i];
+            totalWeight += weights[i];
+            if (selected < 0 || currentWeights[i] > currentWeights[selected]) {
+                selected = i;
+            }
+        }
+        if (selected < 0) {
+            return null;
+        }
+        currentWeights[selected] -= totalWeight;
+        return queues[selected].poll();
+    }
+}
@@ -0,0 +1,86 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+package io.ballerinax.event;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+/**
+ * Dispatches the events of a partition key one after the other, in the order they are submitted, while the events of
+ * the different keys are dispatched in parallel. The keys are hashed into a fixed number of stripes, each of which
+ * dispatches one event at a time, so that the number of the queues does not grow with the number of the keys.
+ * A dispatch is given a callback, which it calls once the event is processed to start the next event of the stripe.
+ */
+public class StripedDispatcher {
+    private final Stripe[] stripes;
+
+    public StripedDispatcher(int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("Number of the stripes should be at least 1");
+        }
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public void submit(String partitionKey, Consumer<Runnable> dispatch) {
+        stripes[Math.floorMod(partitionKey.hashCode(), stripes.length)].submit(dispatch);
+    }
+
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    private static class Stripe {
+        private final Queue<Consumer<Runnable>> pending = new ArrayDeque<>();
+        private boolean dispatching = false;
+
+        void submit(Consumer<Runnable> dispatch) {
+            synchronized (this) {
+                if (dispatching) {
+                    pending.add(dispatch);
+                    return;
+                }
+                dispatching = true;
+            }
+            run(dispatch);
+        }
+
+        private void next() {
+            Consumer<Runnable> dispatch;
+            synchronized (this) {
+                dispatch = pending.poll();
+                if (dispatch == null) {
+                    dispatching = false;
+                    return;
+                }
+            }
+            run(dispatch);
+        }
+
+        private void run(Consumer<Runnable> dispatch) {
+            try {
+                dispatch.accept(this::next);
+            } catch (RuntimeException e) {
+                // The event could not be started, so the callback is never called for it
+                next();
+                throw e;
+            }
+        }
+    }
+}
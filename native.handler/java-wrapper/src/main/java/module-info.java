@@ -17,4 +17,5 @@
 module io.ballerinax.event {
     requires io.ballerina.lang;
     requires io.ballerina.runtime;
+    requires java.net.http;
 }
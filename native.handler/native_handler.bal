@@ -1,7 +1,90 @@
 import ballerina/jballerina.java;
 
+# Priority classes of the events. When the number of the concurrent dispatches is limited, the events waiting to be
+# dispatched are started with a weighted round robin over the classes.
+public enum Priority {
+    HIGH = "high",
+    NORMAL = "normal",
+    LOW = "low"
+}
+
+# Weights of the priority classes. With the default weights, 8 high priority events are started for every 4 normal
+# and 1 low priority events, while events of all the classes are waiting.
+#
+# + high - Weight of the high priority events
+# + normal - Weight of the normal priority events
+# + low - Weight of the low priority events
+public type PriorityWeights record {|
+    int high = 8;
+    int normal = 4;
+    int low = 1;
+|};
+
+# Decides when an event fanned out to several subscribers fails. `all` fails when any of the subscribers fails, `any`
+# fails only when all the subscribers fail, and `best-effort` never fails, the failures are only reported.
+public type FanOutFailureMode "all"|"any"|"best-effort";
+
 public class NativeHandler {
-    public isolated function invokeRemoteFunction(any event, string eventName, string eventFunction, service object {} serviceObj) returns error? = @java:Method {
+
+    # Initializes the handler.
+    #
+    # + dispatchStripes - Number of the stripes which dispatch the events with a partition key. The events of a key
+    # are always dispatched by the same stripe one after the other, while the stripes run in parallel
+    # + maxConcurrentDispatches - Maximum number of the remote functions running at the same time, the other events
+    # wait in a queue of their priority class. The number is not limited when it is 0
+    # + priorityWeights - Weights of the priority classes, which are used when the events are queued
+    public isolated function init(int dispatchStripes = 16, int maxConcurrentDispatches = 0,
+            PriorityWeights priorityWeights = {}) {
+        initDispatchers(self, dispatchStripes, maxConcurrentDispatches, priorityWeights);
+    }
+
+    public isolated function invokeRemoteFunction(any event, string eventName, string eventFunction, service object {} serviceObj, Priority priority = NORMAL) returns error? = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
+
+    # Invokes a remote function after the events received earlier with the same partition key are processed.
+    #
+    # + event - Event to pass to the remote function
+    # + partitionKey - Key of the entity the event belongs to, e.g. the channel or the user of the event
+    # + eventName - Name of the event
+    # + eventFunction - Name of the remote function
+    # + serviceObj - Service to invoke the remote function of
+    # + priority - Priority class of the event
+    # + return - An error if the remote function returns an error or fails
+    public isolated function invokeRemoteFunctionInOrder(any event, string partitionKey, string eventName, string eventFunction, service object {} serviceObj, Priority priority = NORMAL) returns error? = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
+
+    # Invokes a remote function of all the given services concurrently, and completes once all of them complete.
+    #
+    # + event - Event to pass to the remote functions, which is shared by all the services
+    # + eventName - Name of the event
+    # + eventFunction - Name of the remote function
+    # + serviceObjs - Services to invoke the remote function of
+    # + failureMode - Decides whether the invocation fails, when some of the remote functions fail
+    # + priority - Priority class of the event
+    # + return - An error if the remote functions fail as described by the failure mode
+    public isolated function invokeRemoteFunctions(readonly event, string eventName, string eventFunction, service object {}[] serviceObjs, FanOutFailureMode failureMode = "all", Priority priority = NORMAL) returns error? = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
+
+    # Invokes a remote function of all the given services concurrently, after the events received earlier with the
+    # same partition key are processed by all of them.
+    #
+    # + event - Event to pass to the remote functions, which is shared by all the services
+    # + partitionKey - Key of the entity the event belongs to, e.g. the channel or the user of the event
+    # + eventName - Name of the event
+    # + eventFunction - Name of the remote function
+    # + serviceObjs - Services to invoke the remote function of
+    # + failureMode - Decides whether the invocation fails, when some of the remote functions fail
+    # + priority - Priority class of the event
+    # + return - An error if the remote functions fail as described by the failure mode
+    public isolated function invokeRemoteFunctionsInOrder(readonly event, string partitionKey, string eventName, string eventFunction, service object {}[] serviceObjs, FanOutFailureMode failureMode = "all", Priority priority = NORMAL) returns error? = @java:Method {
         'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
     } external;
 }
+
+isolated function initDispatchers(NativeHandler handler, int dispatchStripes, int maxConcurrentDispatches,
+        PriorityWeights priorityWeights) = @java:Method {
+    'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+} external;
@@ -0,0 +1,35 @@
+import ballerina/jballerina.java;
+
+# Error returned when a request body is larger than the maximum size.
+public type PayloadTooLargeError distinct error;
+
+# Error returned when a request body is not valid, e.g. when it is not compressed with its content encoding.
+public type InvalidPayloadError distinct error;
+
+# Decompresses the body of a request, which is compressed with gzip or deflate.
+#
+# + payload - Compressed body of the request
+# + contentEncoding - Value of the Content-Encoding header of the request
+# + maxSize - Maximum size of the decompressed body in bytes
+# + return - The decompressed body, an `InvalidPayloadError` if the content encoding is not supported or the body is
+# not valid, or a `PayloadTooLargeError` if the decompressed body is larger than the maximum size
+public isolated function decompress(byte[] payload, string contentEncoding, int maxSize) returns byte[]|error =
+@java:Method {
+    'class: "io.ballerinax.event.NativePayloadDecoder"
+} external;
+
+# Decodes the body of a request as JSON.
+#
+# + payload - Body of the request, after it is decompressed
+# + return - The JSON value of the body, or an `InvalidPayloadError` if the body is not valid UTF-8 or not valid JSON
+public isolated function decodeJson(byte[] payload) returns json|InvalidPayloadError {
+    string|error text = string:fromBytes(payload);
+    if text is error {
+        return error InvalidPayloadError("Payload is not valid UTF-8: " + text.message());
+    }
+    json|error decoded = text.fromJsonString();
+    if decoded is error {
+        return error InvalidPayloadError("Payload is not valid JSON: " + decoded.message());
+    }
+    return decoded;
+}
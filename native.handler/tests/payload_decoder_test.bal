@@ -0,0 +1,27 @@
+import ballerina/test;
+
+@test:Config {}
+isolated function testDecodeJson() returns error? {
+    json payload = check decodeJson("{\"event\": {\"type\": \"app_created\"}}".toBytes());
+    test:assertEquals(payload, {event: {'type: "app_created"}});
+}
+
+@test:Config {}
+isolated function testDecodeMalformedJson() {
+    json|InvalidPayloadError payload = decodeJson("{\"event\": {\"type\": ".toBytes());
+    if payload is InvalidPayloadError {
+        test:assertTrue(payload.message().startsWith("Payload is not valid JSON"));
+    } else {
+        test:assertFail("Malformed JSON should be rejected with an InvalidPayloadError");
+    }
+}
+
+@test:Config {}
+isolated function testDecodeInvalidUtf8() {
+    json|InvalidPayloadError payload = decodeJson([0xc3, 0x28]);
+    if payload is InvalidPayloadError {
+        test:assertTrue(payload.message().startsWith("Payload is not valid UTF-8"));
+    } else {
+        test:assertFail("A body which is not valid UTF-8 should be rejected with an InvalidPayloadError");
+    }
+}